@@ -0,0 +1,467 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// apartment-load.js'in JDK karşılığı; k6 kurulamayan ortamlar için (compare-threads.sh k6 yoksa bunu kullanır).
+//
+//   java loadtest/LoadDriver.java
+//   MAX_VUS=100 HOLD=5m LABEL=baseline java loadtest/LoadDriver.java
+//
+// Aynı ortam değişkenleri, aynı setup (import ile yıllara yayılmış ledger), aynı dört ramping-vus iş yükü
+// (VU payı, 30s / 1m / 1m / HOLD / 30s kademeleri, beklemesiz döngü) ve aynı özet dosyası:
+// loadtest/results/summary-<LABEL>.json. Bağımlılık yok; JSON cevaplarından yalnızca id / years okunur.
+public class LoadDriver {
+
+    private static final String BASE_URL = env("BASE_URL", "http://localhost:8080");
+    private static final int DAIRE_COUNT = Integer.parseInt(env("DAIRE_COUNT", "100"));
+    private static final int YEARS = Integer.parseInt(env("YEARS", "3"));
+    private static final int HAREKET_PER_DAIRE = Integer.parseInt(env("HAREKET_PER_DAIRE", "24"));
+    private static final int MAX_VUS = Integer.parseInt(env("MAX_VUS", "50"));
+    private static final String HOLD = env("HOLD", "3m");
+    private static final String RUN_ID = env("RUN_ID", String.valueOf(System.currentTimeMillis()));
+    private static final String LABEL = env("LABEL", RUN_ID);
+
+    private static final List<String> ENDPOINTS = List.of(
+            "kasa_hareket_create",
+            "kasa_summary",
+            "kasa_monthly_summary",
+            "kasa_yearly_summary",
+            "duyuru_active",
+            "duyuru_list",
+            "yapilacak_status_count",
+            "yapilacak_status_count_active");
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final Pattern YEARS_FIELD = Pattern.compile("\"years\"\\s*:\\s*(\\d+)");
+    private static final Pattern IMPORTED = Pattern.compile("\"importedCount\"\\s*:\\s*(\\d+)");
+    private static final Pattern OBJECT = Pattern.compile("\\{[^{}]*}");
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private static final Map<String, Endpoint> METRICS = new ConcurrentHashMap<>();
+
+    private record Kasa(String id, int year, int months) {
+    }
+
+    private record Data(List<Kasa> kasalar, List<String> daireler, List<String> ucretTypes) {
+    }
+
+    private record Stage(long durationMs, int target) {
+    }
+
+    // endpoint başına süre örnekleri (ms) ve 2xx olmayan cevap sayısı
+    private static final class Endpoint {
+        private final List<Double> durations = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong failed = new AtomicLong();
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("setup: %d daire, %d yıl, daire başı %d hareket%n", DAIRE_COUNT, YEARS, HAREKET_PER_DAIRE);
+        Data data = setup();
+
+        List<Thread> scenarios = List.of(
+                scenario("posting", 0.2, () -> posting(data)),
+                scenario("dashboard", 0.5, () -> dashboard(data)),
+                scenario("duyuru", 0.2, LoadDriver::duyuru),
+                scenario("yapilacak", 0.1, LoadDriver::yapilacak));
+
+        long started = System.nanoTime();
+        scenarios.forEach(Thread::start);
+        for (Thread t : scenarios) {
+            t.join();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        System.exit(summary(seconds) ? 0 : 99);
+    }
+
+    // ============
+    // setup: sentetik bina
+    // ============
+
+    private static Data setup() {
+        String role = id(post("/api/roles", json("code", "LT_" + RUN_ID, "aciklama", "load test")));
+
+        List<String> ucretTypes = new ArrayList<>();
+        for (String code : List.of("AIDAT", "YAKIT", "DEMIRBAS")) {
+            ucretTypes.add(id(post("/api/ucrettypes", json("code", code + "_" + RUN_ID, "aciklama", code + " (load test)"))));
+        }
+
+        String telPrefix = "9" + RUN_ID.substring(Math.max(0, RUN_ID.length() - 6));
+        List<String> daireler = new ArrayList<>();
+        for (int i = 0; i < DAIRE_COUNT; i++) {
+            String customer = id(post("/api/customers", json(
+                    "name", "Sakin" + i,
+                    "surname", "Loadtest",
+                    "tel", telPrefix + String.format("%04d", i),
+                    "email", "sakin" + i + "." + RUN_ID + "@loadtest.local")));
+            String user = id(post("/api/users", json(
+                    "username", "lt_" + RUN_ID + "_" + i,
+                    "password", "loadtest",
+                    "customerId", customer,
+                    "roleId", role)));
+            daireler.add(id(post("/api/daireler", json("userid", user, "daireno", "LT" + RUN_ID + "-" + i))));
+        }
+
+        // son YEARS yılın kasası; varsa mevcut kasa kullanılır
+        LocalDate today = LocalDate.now();
+        String existing = get("/api/kasa");
+        List<Kasa> kasalar = new ArrayList<>();
+        for (int y = today.getYear() - YEARS + 1; y <= today.getYear(); y++) {
+            String id = null;
+            Matcher objects = OBJECT.matcher(existing);
+            while (objects.find()) {
+                Matcher years = YEARS_FIELD.matcher(objects.group());
+                if (years.find() && Integer.parseInt(years.group(1)) == y) {
+                    id = id(objects.group());
+                }
+            }
+            if (id == null) {
+                id = id(post("/api/kasa", "{\"years\":" + y + "}"));
+            }
+            kasalar.add(new Kasa(id, y, y == today.getYear() ? today.getMonthValue() : 12));
+        }
+
+        // ledger: apartment-load.js ile aynı satırlar, kasa başına tek import
+        for (Kasa kasa : kasalar) {
+            int lastMonthDays = kasa.year() == today.getYear() ? today.getDayOfMonth() : 28;
+            StringBuilder csv = new StringBuilder("tarih,yon,tutar,daireid,ucrettypeid,aciklama\n");
+            int rows = 0;
+            for (int i = 0; i < daireler.size(); i++) {
+                for (int m = 0; m < HAREKET_PER_DAIRE; m++) {
+                    int month = 1 + (m % kasa.months());
+                    int days = month == kasa.months() ? lastMonthDays : 28;
+                    String tarih = String.format("%d-%02d-%02dT%02d:00:00", kasa.year(), month, 1 + (i % days), 8 + (m % 10));
+                    csv.append(tarih).append(",IN,").append(500 + (m % 12) * 25).append(',')
+                            .append(daireler.get(i)).append(',').append(ucretTypes.get(m % ucretTypes.size()))
+                            .append(",loadtest ").append(kasa.year()).append('/').append(m).append('\n');
+                    rows++;
+                    if (m % 6 == 5) {
+                        csv.append(tarih).append(",OUT,300,,,loadtest gider\n");
+                        rows++;
+                    }
+                }
+            }
+            String result = send(HttpRequest.newBuilder(uri("/api/kasa-hareket/import?kasaid=" + kasa.id() + "&failOnError=true"))
+                    .header("Content-Type", "text/csv")
+                    .timeout(Duration.ofMinutes(10))
+                    .POST(HttpRequest.BodyPublishers.ofString(csv.toString())), "import");
+            Matcher imported = IMPORTED.matcher(result);
+            if (!imported.find() || Integer.parseInt(imported.group(1)) != rows) {
+                throw new IllegalStateException("import " + kasa.year() + ": " + rows + " satırın yüklenmesi bekleniyordu: " + result);
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            post("/api/duyurular", json("type", "GENEL", "aciklama", "Duyuru " + i, "expiredate", isoInDays(i % 2 == 0 ? 30 : -1)));
+        }
+        String[] statuses = {"BEKLEMEDE", "DEVAM_EDIYOR", "TAMAMLANDI", "PLANLANDI", "IPTAL"};
+        for (int i = 0; i < 50; i++) {
+            post("/api/yapilacaklar", json("type", "BAKIM", "aciklama", "Is " + i,
+                    "expiredate", isoInDays(i % 3 == 0 ? -5 : 15), "status", statuses[i % statuses.length]));
+        }
+
+        return new Data(kasalar, daireler, ucretTypes);
+    }
+
+    // ============
+    // iş yükleri
+    // ============
+
+    // aidat tahsilatı: güncel yılın kasasına IN
+    private static void posting(Data data) {
+        Kasa kasa = data.kasalar().get(data.kasalar().size() - 1);
+        String body = "{\"kasaid\":\"" + kasa.id() + "\",\"daireid\":\"" + pick(data.daireler())
+                + "\",\"ucrettypeid\":\"" + data.ucretTypes().get(0)
+                + "\",\"amount\":750,\"direction\":\"IN\",\"description\":\"loadtest aidat\"}";
+        timed("kasa_hareket_create", HttpRequest.newBuilder(uri("/api/kasa-hareket"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))).join();
+    }
+
+    // yönetici paneli: üç rapor isteği paralel (k6 http.batch gibi)
+    private static void dashboard(Data data) {
+        Kasa kasa = pick(data.kasalar());
+        int month = 1 + ThreadLocalRandom.current().nextInt(kasa.months());
+        String base = "/api/kasa-hareket/kasa/" + kasa.id();
+        CompletableFuture.allOf(
+                timed("kasa_summary", HttpRequest.newBuilder(uri(base + "/summary"))),
+                timed("kasa_monthly_summary", HttpRequest.newBuilder(uri(base + "/monthly-summary?year=" + kasa.year() + "&month=" + month))),
+                timed("kasa_yearly_summary", HttpRequest.newBuilder(uri(base + "/yearly-summary?year=" + kasa.year())))
+        ).join();
+    }
+
+    private static void duyuru() {
+        timed("duyuru_active", HttpRequest.newBuilder(uri("/api/duyurular/active"))).join();
+        if (ThreadLocalRandom.current().nextDouble() < 0.2) {
+            timed("duyuru_list", HttpRequest.newBuilder(uri("/api/duyurular"))).join();
+        }
+    }
+
+    private static void yapilacak() {
+        timed("yapilacak_status_count", HttpRequest.newBuilder(uri("/api/yapilacaklar/status-count"))).join();
+        timed("yapilacak_status_count_active", HttpRequest.newBuilder(uri("/api/yapilacaklar/status-count/active"))).join();
+    }
+
+    // ============
+    // ramping-vus
+    // ============
+
+    private static List<Stage> stages(double share) {
+        int target = Math.max(1, (int) Math.round(MAX_VUS * share));
+        return List.of(
+                new Stage(30_000, Math.max(1, Math.round(target / 4f))),
+                new Stage(60_000, Math.max(1, Math.round(target / 2f))),
+                new Stage(60_000, target),
+                new Stage(durationMs(HOLD), target),
+                new Stage(30_000, 0));
+    }
+
+    // k6 ramping-vus: hedef VU sayısı kademe içinde doğrusal değişir; fazla VU iterasyonunu bitirip bekler
+    private static Thread scenario(String name, double share, Runnable iteration) {
+        List<Stage> stages = stages(share);
+        int maxVus = stages.stream().mapToInt(Stage::target).max().orElse(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger();
+
+        return new Thread(() -> {
+            List<Thread> vus = new ArrayList<>();
+            for (int i = 0; i < maxVus; i++) {
+                int vu = i;
+                Thread t = new Thread(() -> {
+                    while (done.get() == 0) {
+                        if (vu < active.get()) {
+                            try {
+                                iteration.run();
+                            } catch (RuntimeException ex) {
+                                // istek hataları timed() içinde failed olarak sayılır
+                            }
+                        } else {
+                            sleep(50);
+                        }
+                    }
+                }, name + "-vu-" + vu);
+                t.setDaemon(true);
+                t.start();
+                vus.add(t);
+            }
+
+            int from = 0;
+            for (Stage stage : stages) {
+                long stageStart = System.currentTimeMillis();
+                long elapsed;
+                while ((elapsed = System.currentTimeMillis() - stageStart) < stage.durationMs()) {
+                    active.set(from + (int) Math.round((stage.target() - from) * (double) elapsed / stage.durationMs()));
+                    sleep(100);
+                }
+                active.set(stage.target());
+                from = stage.target();
+            }
+            done.set(1);
+            for (Thread t : vus) {
+                try {
+                    t.join(10_000); // gracefulRampDown
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, name);
+    }
+
+    // ============
+    // rapor
+    // ============
+
+    // tablo + summary-<LABEL>.json; threshold'lar (http_req_failed < %1, endpoint p99 < 2000 ms) tutarsa true
+    private static boolean summary(double seconds) throws IOException {
+        List<String> rows = new ArrayList<>();
+        StringBuilder table = new StringBuilder(
+                "\nendpoint                        requests      rps    p50(ms)    p95(ms)    p99(ms)\n");
+        long total = 0;
+        long failed = 0;
+        boolean ok = true;
+        for (String name : ENDPOINTS) {
+            Endpoint e = METRICS.get(name);
+            if (e == null) {
+                continue;
+            }
+            List<Double> sorted;
+            synchronized (e.durations) {
+                sorted = new ArrayList<>(e.durations);
+            }
+            Collections.sort(sorted);
+            int count = sorted.size();
+            double rps = round(count / seconds);
+            double p50 = round(percentile(sorted, 0.50));
+            double p95 = round(percentile(sorted, 0.95));
+            double p99 = round(percentile(sorted, 0.99));
+            total += count;
+            failed += e.failed.get();
+            ok &= p99 < 2000;
+
+            table.append(String.format(Locale.ROOT, "%-30s %10d %8s %10s %10s %10s%n", name, count, rps, p50, p95, p99));
+            rows.add(String.format(Locale.ROOT,
+                    "{\"endpoint\":\"%s\",\"requests\":%d,\"failed\":%d,\"rps\":%s,\"p50\":%s,\"p95\":%s,\"p99\":%s}",
+                    name, count, e.failed.get(), rps, p50, p95, p99));
+        }
+        double failedRate = total > 0 ? (double) failed / total : 0;
+        ok &= failedRate < 0.01;
+        table.append(String.format(Locale.ROOT, "http_req_failed: %.2f%% (%d / %d), süre %.0f s%n", failedRate * 100, failed, total, seconds));
+        System.out.print(table);
+
+        Path file = Path.of("loadtest/results/summary-" + LABEL + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "{\"label\":\"" + LABEL + "\",\"tool\":\"LoadDriver\",\"durationSeconds\":" + Math.round(seconds)
+                + ",\"endpoints\":[\n" + String.join(",\n", rows) + "\n]}\n");
+        if (!ok) {
+            System.out.println("threshold aşıldı (http_req_failed >= %1 veya bir endpoint'te p99 >= 2000 ms)");
+        }
+        return ok;
+    }
+
+    // k6 gibi sıralı örnekler arasında doğrusal enterpolasyon
+    private static double percentile(List<Double> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        double rank = p * (sorted.size() - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = Math.min(lower + 1, sorted.size() - 1);
+        return sorted.get(lower) + (sorted.get(upper) - sorted.get(lower)) * (rank - lower);
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    private static CompletableFuture<Void> timed(String name, HttpRequest.Builder request) {
+        Endpoint endpoint = METRICS.computeIfAbsent(name, k -> new Endpoint());
+        long start = System.nanoTime();
+        Consumer<Boolean> record = success -> {
+            endpoint.durations.add((System.nanoTime() - start) / 1e6);
+            if (!success) {
+                endpoint.failed.incrementAndGet();
+            }
+        };
+        return CLIENT.sendAsync(request.timeout(Duration.ofSeconds(60)).build(), HttpResponse.BodyHandlers.discarding())
+                .handle((res, ex) -> {
+                    record.accept(ex == null && res.statusCode() >= 200 && res.statusCode() < 300);
+                    return null;
+                });
+    }
+
+    private static String post(String path, String json) {
+        return send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)), "POST " + path);
+    }
+
+    private static String get(String path) {
+        return send(HttpRequest.newBuilder(uri(path)).GET(), "GET " + path);
+    }
+
+    private static String send(HttpRequest.Builder request, String what) {
+        try {
+            HttpResponse<String> res = CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (res.statusCode() >= 300) {
+                throw new IllegalStateException(what + " -> " + res.statusCode() + ": " + res.body());
+            }
+            return res.body();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String id(String body) {
+        Matcher m = ID.matcher(body);
+        if (!m.find()) {
+            throw new IllegalStateException("cevapta id yok: " + body);
+        }
+        return m.group(1);
+    }
+
+    // düz string alanlı JSON nesnesi: json("a", "1", "b", "2")
+    private static String json(String... pairs) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(pairs[i]).append("\":\"")
+                    .append(pairs[i + 1].replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static URI uri(String path) {
+        return URI.create(BASE_URL + path);
+    }
+
+    private static String isoInDays(int days) {
+        return LocalDateTime.now().plusDays(days).truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+
+    // "30s", "3m", "1m30s"
+    private static long durationMs(String value) {
+        Matcher m = Pattern.compile("(\\d+)([hms])").matcher(value);
+        long ms = 0;
+        while (m.find()) {
+            long n = Long.parseLong(m.group(1));
+            ms += switch (m.group(2)) {
+                case "h" -> n * 3_600_000;
+                case "m" -> n * 60_000;
+                default -> n * 1_000;
+            };
+        }
+        return ms;
+    }
+
+    private static <T> T pick(List<T> list) {
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : fallback;
+    }
+}
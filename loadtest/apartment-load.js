@@ -0,0 +1,292 @@
+// Apartment API uçtan uca yük testi (k6).
+//
+//   k6 run loadtest/apartment-load.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e DAIRE_COUNT=200 -e YEARS=3 -e MAX_VUS=100 loadtest/apartment-load.js
+//
+// setup() sentetik bir bina kurar (müşteri, kullanıcı, daire, ücret tipi, yıllık kasa, duyuru, yapılacak)
+// ve /api/kasa-hareket/import ile her yılın kasasına o yıla yayılmış geçmiş hareketleri yükler.
+// Ardından dört iş yükü aynı anda, kademeli artan VU ile çalışır. Endpoint bazında throughput ve p50/p95/p99 sonuç özetinde ve
+// loadtest/results/summary-<run>.json dosyasında.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DAIRE_COUNT = parseInt(__ENV.DAIRE_COUNT || '100', 10);
+const YEARS = parseInt(__ENV.YEARS || '3', 10);
+const HAREKET_PER_DAIRE = parseInt(__ENV.HAREKET_PER_DAIRE || '24', 10);
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '50', 10);
+const HOLD = __ENV.HOLD || '3m';
+const RUN_ID = __ENV.RUN_ID || `${Date.now()}`;
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+// VU payı: yazma az, dashboard okuması çok
+const WORKLOAD = {
+    posting: 0.2,
+    dashboard: 0.5,
+    duyuru: 0.2,
+    yapilacak: 0.1,
+};
+
+function stages(share) {
+    const target = Math.max(1, Math.round(MAX_VUS * share));
+    return [
+        { duration: '30s', target: Math.max(1, Math.round(target / 4)) },
+        { duration: '1m', target: Math.max(1, Math.round(target / 2)) },
+        { duration: '1m', target },
+        { duration: HOLD, target },
+        { duration: '30s', target: 0 },
+    ];
+}
+
+function scenario(exec, share) {
+    return {
+        executor: 'ramping-vus',
+        exec,
+        startVUs: 0,
+        stages: stages(share),
+        gracefulRampDown: '10s',
+    };
+}
+
+const ENDPOINTS = [
+    'kasa_hareket_create',
+    'kasa_summary',
+    'kasa_monthly_summary',
+    'kasa_yearly_summary',
+    'duyuru_active',
+    'duyuru_list',
+    'yapilacak_status_count',
+    'yapilacak_status_count_active',
+];
+
+// her endpoint için alt metrik: özet tablosunda ayrı satır olarak çıkar
+const thresholds = { http_req_failed: ['rate<0.01'] };
+for (const name of ENDPOINTS) {
+    thresholds[`http_req_duration{name:${name}}`] = ['p(99)<2000'];
+    thresholds[`http_reqs{name:${name}}`] = ['count>0'];
+}
+
+export const options = {
+    setupTimeout: '30m',
+    summaryTrendStats: ['avg', 'min', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        posting: scenario('posting', WORKLOAD.posting),
+        dashboard: scenario('dashboard', WORKLOAD.dashboard),
+        duyuru: scenario('duyuru', WORKLOAD.duyuru),
+        yapilacak: scenario('yapilacak', WORKLOAD.yapilacak),
+    },
+    thresholds,
+};
+
+// ============
+// setup: sentetik bina
+// ============
+
+function post(path, body) {
+    const res = http.post(`${BASE_URL}${path}`, JSON.stringify(body), {
+        ...JSON_HEADERS,
+        tags: { name: 'setup' },
+    });
+    if (res.status >= 300) {
+        throw new Error(`POST ${path} -> ${res.status}: ${res.body}`);
+    }
+    return res.json();
+}
+
+function get(path) {
+    const res = http.get(`${BASE_URL}${path}`, { tags: { name: 'setup' } });
+    if (res.status >= 300) {
+        throw new Error(`GET ${path} -> ${res.status}: ${res.body}`);
+    }
+    return res.json();
+}
+
+// import CSV'si text/csv gövde olarak gider; cevap yüklenen / hatalı satır sayısı
+function importCsv(kasaid, csv) {
+    const res = http.post(`${BASE_URL}/api/kasa-hareket/import?kasaid=${kasaid}&failOnError=true`, csv, {
+        headers: { 'Content-Type': 'text/csv' },
+        tags: { name: 'setup' },
+        timeout: '10m',
+    });
+    if (res.status >= 300) {
+        throw new Error(`POST /api/kasa-hareket/import -> ${res.status}: ${res.body}`);
+    }
+    return res.json();
+}
+
+function pad2(n) {
+    return String(n).padStart(2, '0');
+}
+
+function isoInDays(days) {
+    return new Date(Date.now() + days * 86400000).toISOString().slice(0, 19);
+}
+
+export function setup() {
+    const role = post('/api/roles', { code: `LT_${RUN_ID}`, aciklama: 'load test' });
+
+    const ucretTypes = ['AIDAT', 'YAKIT', 'DEMIRBAS'].map((code) =>
+        post('/api/ucrettypes', { code: `${code}_${RUN_ID}`, aciklama: `${code} (load test)` }).id);
+
+    const daireler = [];
+    for (let i = 0; i < DAIRE_COUNT; i++) {
+        const customer = post('/api/customers', {
+            name: `Sakin${i}`,
+            surname: 'Loadtest',
+            tel: `9${RUN_ID.slice(-6)}${String(i).padStart(4, '0')}`,
+            email: `sakin${i}.${RUN_ID}@loadtest.local`,
+        });
+        const user = post('/api/users', {
+            username: `lt_${RUN_ID}_${i}`,
+            password: 'loadtest',
+            customerId: customer.id,
+            roleId: role.id,
+        });
+        daireler.push(post('/api/daireler', { userid: user.id, daireno: `LT${RUN_ID}-${i}` }).id);
+    }
+
+    // son YEARS yılın kasası; varsa mevcut kasa kullanılır.
+    // months: hareketi olan ay sayısı (bu yıl için bugüne kadar), rapor senaryoları bu aylardan seçer
+    const today = new Date();
+    const currentYear = today.getFullYear();
+    const existing = get('/api/kasa');
+    const kasalar = [];
+    for (let y = currentYear - YEARS + 1; y <= currentYear; y++) {
+        const found = existing.find((k) => k.years === y);
+        const months = y === currentYear ? today.getMonth() + 1 : 12;
+        kasalar.push({ id: found ? found.id : post('/api/kasa', { years: y }).id, year: y, months });
+    }
+
+    // ledger: her daire için her yıl HAREKET_PER_DAIRE aidat girişi + biraz gider, yılın aylarına yayılmış.
+    // Tarih sunucuda atanmasın diye import (COPY) ile, kasa başına tek istek
+    for (const kasa of kasalar) {
+        const lastMonthDays = kasa.year === currentYear ? today.getDate() : 28;
+        const lines = ['tarih,yon,tutar,daireid,ucrettypeid,aciklama'];
+        daireler.forEach((daireid, i) => {
+            for (let m = 0; m < HAREKET_PER_DAIRE; m++) {
+                const month = 1 + (m % kasa.months);
+                const days = month === kasa.months ? lastMonthDays : 28;
+                const tarih = `${kasa.year}-${pad2(month)}-${pad2(1 + (i % days))}T${pad2(8 + (m % 10))}:00:00`;
+                lines.push(`${tarih},IN,${500 + (m % 12) * 25},${daireid},${ucretTypes[m % ucretTypes.length]},loadtest ${kasa.year}/${m}`);
+                if ((i + m) % 6 === 5) {
+                    lines.push(`${tarih},OUT,300,,,loadtest gider`);
+                }
+            }
+        });
+        const result = importCsv(kasa.id, lines.join('\n'));
+        if (result.importedCount !== lines.length - 1) {
+            throw new Error(`import ${kasa.year}: ${result.importedCount}/${lines.length - 1} satır yüklendi`);
+        }
+    }
+
+    for (let i = 0; i < 20; i++) {
+        post('/api/duyurular', { type: 'GENEL', aciklama: `Duyuru ${i}`, expiredate: isoInDays(i % 2 === 0 ? 30 : -1) });
+    }
+    const statuses = ['BEKLEMEDE', 'DEVAM_EDIYOR', 'TAMAMLANDI', 'PLANLANDI', 'IPTAL'];
+    for (let i = 0; i < 50; i++) {
+        post('/api/yapilacaklar', {
+            type: 'BAKIM',
+            aciklama: `Is ${i}`,
+            expiredate: isoInDays(i % 3 === 0 ? -5 : 15),
+            status: statuses[i % statuses.length],
+        });
+    }
+
+    return { kasalar, daireler, ucretTypes };
+}
+
+// ============
+// iş yükleri
+// ============
+
+function pick(list) {
+    return list[Math.floor(Math.random() * list.length)];
+}
+
+function expectOk(res) {
+    check(res, { 'status 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+// aidat tahsilatı: güncel yılın kasasına IN
+export function posting(data) {
+    const kasa = data.kasalar[data.kasalar.length - 1];
+    const body = {
+        kasaid: kasa.id,
+        daireid: pick(data.daireler),
+        ucrettypeid: data.ucretTypes[0],
+        amount: 750,
+        direction: 'IN',
+        description: 'loadtest aidat',
+    };
+    expectOk(http.post(`${BASE_URL}/api/kasa-hareket`, JSON.stringify(body), {
+        ...JSON_HEADERS,
+        tags: { name: 'kasa_hareket_create' },
+    }));
+}
+
+// yönetici paneli: bakiye + seçili ayın özeti + yıl raporu (geçmiş yıllar dahil, hareketi olan aylardan)
+export function dashboard(data) {
+    const kasa = pick(data.kasalar);
+    const month = 1 + Math.floor(Math.random() * kasa.months);
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/kasa-hareket/kasa/${kasa.id}/summary`, null,
+            { tags: { name: 'kasa_summary' } }],
+        ['GET', `${BASE_URL}/api/kasa-hareket/kasa/${kasa.id}/monthly-summary?year=${kasa.year}&month=${month}`, null,
+            { tags: { name: 'kasa_monthly_summary' } }],
+        ['GET', `${BASE_URL}/api/kasa-hareket/kasa/${kasa.id}/yearly-summary?year=${kasa.year}`, null,
+            { tags: { name: 'kasa_yearly_summary' } }],
+    ]);
+    responses.forEach(expectOk);
+}
+
+export function duyuru() {
+    expectOk(http.get(`${BASE_URL}/api/duyurular/active`, { tags: { name: 'duyuru_active' } }));
+    if (Math.random() < 0.2) {
+        expectOk(http.get(`${BASE_URL}/api/duyurular`, { tags: { name: 'duyuru_list' } }));
+    }
+}
+
+export function yapilacak() {
+    expectOk(http.get(`${BASE_URL}/api/yapilacaklar/status-count`, { tags: { name: 'yapilacak_status_count' } }));
+    expectOk(http.get(`${BASE_URL}/api/yapilacaklar/status-count/active`, { tags: { name: 'yapilacak_status_count_active' } }));
+}
+
+// ============
+// rapor
+// ============
+
+export function handleSummary(data) {
+    const rows = ENDPOINTS.map((name) => {
+        const duration = data.metrics[`http_req_duration{name:${name}}`];
+        const reqs = data.metrics[`http_reqs{name:${name}}`];
+        if (!duration || !reqs) {
+            return null;
+        }
+        return {
+            endpoint: name,
+            requests: reqs.values.count,
+            rps: Number(reqs.values.rate.toFixed(2)),
+            p50: Number(duration.values.med.toFixed(2)),
+            p95: Number(duration.values['p(95)'].toFixed(2)),
+            p99: Number(duration.values['p(99)'].toFixed(2)),
+        };
+    }).filter((r) => r !== null);
+
+    const header = 'endpoint                        requests      rps    p50(ms)    p95(ms)    p99(ms)';
+    const table = rows.map((r) => [
+        r.endpoint.padEnd(30),
+        String(r.requests).padStart(10),
+        String(r.rps).padStart(8),
+        String(r.p50).padStart(10),
+        String(r.p95).padStart(10),
+        String(r.p99).padStart(10),
+    ].join(' '));
+
+    const label = __ENV.LABEL || RUN_ID;
+    return {
+        stdout: `\n${header}\n${table.join('\n')}\n`,
+        [`loadtest/results/summary-${label}.json`]: JSON.stringify({ label, endpoints: rows, k6: data }, null, 2),
+    };
+}
@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# Platform thread (varsayilan) ve virtual thread modunu ayni yuk testiyle karsilastirir.
+#
+#   JAVA_HOME=/path/to/jdk-21 loadtest/compare-threads.sh
+#   MAX_VUS=400 HOLD=5m loadtest/compare-threads.sh
+#
+# Her mod icin uygulama sifirdan baslatilir, loadtest/apartment-load.js kosar (k6 yoksa ayni is yukunu
+# uygulayan loadtest/LoadDriver.java) ve loadtest/results/summary-{platform,virtual}.json yazilir.
+# Yuk bitince Hikari baglanti bekleme metrikleri (hikaricp.connections.acquire / .timeout)
+# loadtest/results/pool-{platform,virtual}.json'a alinir. Sonda endpoint bazinda rps, p95 ve p99 ile
+# havuz beklemesi yan yana basilir ve loadtest/results/compare-threads.txt'ye yazilir (jq gerekir).
+# Iki kosu ayni veritabanini kullanir (SPRING_DATASOURCE_URL ile degistirilebilir);
+# karsilastirma icin her kosudan once bos bir veritabani tercih edilir.
+# Maven wrapper indirilemiyorsa MVN=mvn verin.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+JAR=target/apartment-api-0.0.1-SNAPSHOT.jar
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+MVN="${MVN:-./mvnw}"
+export MAX_VUS="${MAX_VUS:-200}"
+export HOLD="${HOLD:-3m}"
+
+"$MVN" -B -q -Pjava21 -DskipTests package
+
+# tsv -> hizali tablo (column her ortamda yok)
+table() {
+  awk -F'\t' '{ printf "%-32s", $1; for (i = 2; i <= NF; i++) printf "%16s", $i; print "" }'
+}
+
+metric() {
+  curl -sf "$BASE_URL/actuator/metrics/$1" || echo '{"measurements":[]}'
+}
+
+run() {
+  local label="$1"; shift
+  # show-sql her iki modda kapali: konsol I/O olcumu bozmasin
+  "$JAVA" -Djdk.tracePinnedThreads=short -jar "$JAR" --spring.jpa.show-sql=false "$@" \
+    > "loadtest/results/app-$label.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+  # threshold asimi (k6 cikis kodu 99) karsilastirmayi durdurmaz
+  local status=0
+  if command -v k6 > /dev/null; then
+    k6 run -e BASE_URL="$BASE_URL" -e LABEL="$label" -e RUN_ID="$label$(date +%s)" loadtest/apartment-load.js || status=$?
+  else
+    BASE_URL="$BASE_URL" LABEL="$label" RUN_ID="$label$(date +%s)" "$JAVA" loadtest/LoadDriver.java || status=$?
+  fi
+  if [ "$status" -ne 0 ] && [ "$status" -ne 99 ]; then
+    exit "$status"
+  fi
+
+  jq -n --argjson acquire "$(metric hikaricp.connections.acquire)" \
+        --argjson timeout "$(metric hikaricp.connections.timeout)" \
+        --argjson max "$(metric hikaricp.connections.max)" '
+    def m($x; $s): ($x.measurements[] | select(.statistic == $s) | .value) // 0;
+    {
+      poolSize: m($max; "VALUE"),
+      acquireCount: m($acquire; "COUNT"),
+      acquireMeanMs: (if m($acquire; "COUNT") > 0 then m($acquire; "TOTAL_TIME") / m($acquire; "COUNT") * 1000 else 0 end),
+      acquireMaxMs: (m($acquire; "MAX") * 1000),
+      timeouts: m($timeout; "COUNT")
+    }' > "loadtest/results/pool-$label.json"
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run platform
+run virtual --spring.profiles.active=virtual
+
+if grep -q "pinned" loadtest/results/app-virtual.log; then
+  echo "UYARI: pinned thread izi var, loadtest/results/app-virtual.log"
+fi
+
+{
+  jq -rn --slurpfile p loadtest/results/summary-platform.json \
+         --slurpfile v loadtest/results/summary-virtual.json '
+    ["endpoint", "rps(platform)", "rps(virtual)", "p95(platform)", "p95(virtual)", "p99(platform)", "p99(virtual)"],
+    ($p[0].endpoints[] as $a
+      | ($v[0].endpoints[] | select(.endpoint == $a.endpoint)) as $b
+      | [$a.endpoint, $a.rps, $b.rps, $a.p95, $b.p95, $a.p99, $b.p99])
+    | @tsv' | table
+  echo
+  jq -rn --slurpfile p loadtest/results/pool-platform.json \
+         --slurpfile v loadtest/results/pool-virtual.json '
+    ["pool", "size", "acquires", "wait_mean(ms)", "wait_max(ms)", "timeouts"],
+    (["platform", $p[0]], ["virtual", $v[0]]
+      | [.[0], .[1].poolSize, .[1].acquireCount, (.[1].acquireMeanMs * 1000 | round / 1000), (.[1].acquireMaxMs * 100 | round / 100), .[1].timeouts])
+    | @tsv' | table
+} | tee loadtest/results/compare-threads.txt
@@ -0,0 +1,36 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.ApartmentApiApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Benchmark'lar uygulamayı web katmanı olmadan, ayrı bir yerel PostgreSQL veritabanına karşı başlatır.
+// Bağlantı -Dbenchmark.db.url / .user / .password ile değiştirilebilir; şema Flyway ile kurulur.
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ApartmentApiApplication.class)
+                .web(WebApplicationType.NONE)
+                // builder.properties() yalnızca varsayılan değer verir, application.properties onu ezer;
+                // komut satırı argümanları ise application.properties'ten önce gelir
+                .run(
+                        "--spring.datasource.url=" + System.getProperty("benchmark.db.url",
+                                "jdbc:postgresql://localhost:5432/apartment_bench?reWriteBatchedInserts=true"),
+                        "--spring.datasource.username=" + System.getProperty("benchmark.db.user", "postgres"),
+                        "--spring.datasource.password=" + System.getProperty("benchmark.db.password", "1234"),
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        // OUT benchmark'ı limite takılmasın
+                        "--kasa.max-negative=-1000000000000",
+                        // benchmark sırasında gece işleri çalışmasın
+                        "--kasa.bakiye.reconcile-cron=-",
+                        "--tahakkuk.uretim.cron=-",
+                        "--kasa.butunluk.cron=-"
+                );
+    }
+}
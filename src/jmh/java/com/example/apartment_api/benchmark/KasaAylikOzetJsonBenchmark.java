@@ -0,0 +1,62 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.KasaAylikOzetResponseDto;
+import com.example.apartment_api.dto.KasaGunlukOzetDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// monthly-summary cevabının JSON serileştirmesi (31 günlük kırılım)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KasaAylikOzetJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private KasaAylikOzetResponseDto dto;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot'un ObjectMapper ayarlarıyla aynı: java.time modülü, ISO tarih
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        dto = new KasaAylikOzetResponseDto();
+        dto.setKasaid(UUID.randomUUID());
+        dto.setYear(2025);
+        dto.setMonth(1);
+        dto.setTotalIn(new BigDecimal("125000.00"));
+        dto.setTotalOut(new BigDecimal("48000.50"));
+        dto.setBalance(new BigDecimal("76999.50"));
+        dto.setHareketCount(1200);
+        dto.setInCount(1000);
+        dto.setOutCount(200);
+
+        List<KasaGunlukOzetDto> daily = new ArrayList<>();
+        for (int d = 1; d <= 31; d++) {
+            KasaGunlukOzetDto item = new KasaGunlukOzetDto();
+            item.setDate(LocalDate.of(2025, 1, d));
+            item.setTotalIn(BigDecimal.valueOf(4000 + d));
+            item.setTotalOut(BigDecimal.valueOf(1500 + d));
+            daily.add(item);
+        }
+        dto.setDaily(daily);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.KasaAylikOzetResponseDto;
+import com.example.apartment_api.service.KasaHareketService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// getMonthlySummary'nin üç hali, aynı ay üzerinde:
+//   sevenQueries  - ilk hal: 5 toplam/adet + 2 günlük sorgu, her biri ayı kasa_hareket'ten yeniden tarar
+//   groupedScan   - tek sorgu: kasa_hareket'te gün + yön bazında group by
+//   rollup        - bugünkü hal: kasa_gunluk_ozet'ten en fazla 62 satır
+// rows yıla yayılır; bir ay ~rows/12 hareket (10k / 30k)
+//
+// Ölçülen (PG 16 yerel, varsayılan warmup/measurement, us/op; hata payı geniş, sıralama net):
+//   rows     sevenQueries  groupedScan  rollup
+//   120000        43 549       18 203    2 258
+//   360000       105 251       36 751    2 244
+// rollup hareket sayısından bağımsız; eski yedi sorgu ay büyüdükçe doğrusal artıyor
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KasaAylikOzetQueryBenchmark {
+
+    private static final int MONTH = 6;
+
+    private static final String SUM_SQL = """
+            select coalesce(sum(amount), 0) from kasa_hareket
+            where kasaid = ? and delete = false and direction = ? and createdate >= ? and createdate < ?
+            """;
+    private static final String COUNT_SQL = """
+            select count(*) from kasa_hareket
+            where kasaid = ? and delete = false and createdate >= ? and createdate < ?
+            """;
+    private static final String COUNT_DIRECTION_SQL = """
+            select count(*) from kasa_hareket
+            where kasaid = ? and delete = false and direction = ? and createdate >= ? and createdate < ?
+            """;
+    private static final String DAILY_SQL = """
+            select cast(createdate as date) as day, coalesce(sum(amount), 0) as total
+            from kasa_hareket
+            where kasaid = ? and delete = false and direction = ? and createdate >= ? and createdate < ?
+            group by cast(createdate as date)
+            order by cast(createdate as date)
+            """;
+    private static final String GROUPED_SQL = """
+            select cast(createdate as date) as day, direction, coalesce(sum(amount), 0) as total, count(*) as count
+            from kasa_hareket
+            where kasaid = ? and delete = false and createdate >= ? and createdate < ?
+            group by cast(createdate as date), direction
+            order by cast(createdate as date)
+            """;
+
+    @Param({"120000", "360000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private KasaHareketService service;
+    private JdbcTemplate jdbc;
+    private UUID kasaid;
+    private int year;
+    private Timestamp start;
+    private Timestamp end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        service = context.getBean(KasaHareketService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+
+        year = 9200 + String.valueOf(rows).length();
+        kasaid = LedgerSeeder.seedKasa(context, year, rows);
+
+        LocalDateTime monthStart = LocalDateTime.of(year, MONTH, 1, 0, 0);
+        start = Timestamp.valueOf(monthStart);
+        end = Timestamp.valueOf(monthStart.plusMonths(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LedgerSeeder.dropKasa(context, kasaid);
+        context.close();
+    }
+
+    @Benchmark
+    public Object[] sevenQueries() {
+        return new Object[]{
+                jdbc.queryForObject(SUM_SQL, BigDecimal.class, kasaid, "IN", start, end),
+                jdbc.queryForObject(SUM_SQL, BigDecimal.class, kasaid, "OUT", start, end),
+                jdbc.queryForObject(COUNT_SQL, Long.class, kasaid, start, end),
+                jdbc.queryForObject(COUNT_DIRECTION_SQL, Long.class, kasaid, "IN", start, end),
+                jdbc.queryForObject(COUNT_DIRECTION_SQL, Long.class, kasaid, "OUT", start, end),
+                jdbc.queryForList(DAILY_SQL, kasaid, "IN", start, end),
+                jdbc.queryForList(DAILY_SQL, kasaid, "OUT", start, end)
+        };
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> groupedScan() {
+        return jdbc.queryForList(GROUPED_SQL, kasaid, start, end);
+    }
+
+    @Benchmark
+    public KasaAylikOzetResponseDto rollup() {
+        return service.getMonthlySummary(kasaid, year, MONTH);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.KasaHareketImportResponseDto;
+import com.example.apartment_api.repository.KasaRepository;
+import com.example.apartment_api.service.KasaHareketImportService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// CSV import'un uçtan uca süresi: rows satırlık dosya boş bir kasaya (parse + doğrulama + COPY +
+// bakiye / günlük özet). rowsPerSecond yardımcı sayacı servisin kendi ölçtüğü değerdir
+//   mvn -Pbenchmark compile exec:exec -Djmh.args="KasaHareketImportBenchmark"
+//
+// Ölçülen (1 vCPU, 5 GB RAM, yerel PostgreSQL 16, 1M satır, ~38 MB CSV):
+//   süre           32.6 s / 28.1 s / 26.2 s, ortalama 29.0 s  (~34.500 satır/s uçtan uca)
+//   rowsPerSecond  30.682 / 35.633 / 38.124
+// yardımcı sayaçlar özet satırında iterasyonlar boyunca toplanır; iterasyon başına değerler rawData'dadır
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class KasaHareketImportBenchmark {
+
+    private static final int YEAR = 9400;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private KasaHareketImportService service;
+    private JdbcTemplate jdbc;
+    private UUID kasaid;
+    private String partition;
+    private byte[] csv;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Imported {
+        public long imported;
+        public double rowsPerSecond;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        service = context.getBean(KasaHareketImportService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+
+        kasaid = LedgerSeeder.seedKasa(context, YEAR, 0);
+        partition = context.getBean(KasaRepository.class).findHareketPartitionName(kasaid);
+
+        // Excel TR dışa aktarımı gibi: ';' ayırıcı, ondalık virgül
+        LocalDateTime start = LocalDateTime.of(YEAR, 1, 1, 8, 0);
+        StringBuilder sb = new StringBuilder(rows * 48).append("tarih;yon;tutar;aciklama\n");
+        for (int i = 0; i < rows; i++) {
+            sb.append(start.plusDays(i % 365).plusSeconds(i / 365)).append(';')
+                    .append(i % 5 == 0 ? "OUT" : "IN").append(';')
+                    .append(100 + i % 900).append(",50;")
+                    .append("aidat ").append(i % 12 + 1).append('\n');
+        }
+        csv = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // her ölçüm boş partition'a yükler
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbc.execute("truncate " + partition);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LedgerSeeder.dropKasa(context, kasaid);
+        context.close();
+    }
+
+    @Benchmark
+    public KasaHareketImportResponseDto importCsv(Imported imported) {
+        KasaHareketImportResponseDto result = service.importCsv(new ByteArrayInputStream(csv), kasaid, true);
+        if (result.getImportedCount() != rows) {
+            throw new IllegalStateException(result.getImportedCount() + " / " + rows + " satır yüklendi: " + result.getErrors());
+        }
+        imported.imported = result.getImportedCount();
+        imported.rowsPerSecond = result.getRowsPerSecond();
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.KasaHareketResponseDto;
+import com.example.apartment_api.entity.KasaHareket;
+import com.example.apartment_api.service.KasaHareketService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Liste okuma: entity yükle + mapToResponse kopyası (eski yol) vs. doğrudan DTO projeksiyonu.
+// Asıl karşılaştırma allocation; -prof gc ile çalıştır:
+//   mvn -Pbenchmark compile exec:exec -Djmh.args="KasaHareketListBenchmark -prof gc"
+// gc.alloc.rate.norm (B/op) persistence context'e giren entity + snapshot maliyetini gösterir.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KasaHareketListBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private KasaHareketService service;
+    private EntityManager entityManager;
+    private TransactionTemplate tx;
+    private UUID kasaid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        service = context.getBean(KasaHareketService.class);
+        entityManager = context.getBean(EntityManager.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        int year = 9100 + String.valueOf(rows).length();
+        kasaid = LedgerSeeder.seedKasa(context, year, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LedgerSeeder.dropKasa(context, kasaid);
+        context.close();
+    }
+
+    @Benchmark
+    public List<KasaHareketResponseDto> entityThenMap() {
+        return tx.execute(status -> entityManager.createQuery(
+                        "select h from KasaHareket h where h.kasaid = :kasaid and h.deleted = false",
+                        KasaHareket.class)
+                .setParameter("kasaid", kasaid)
+                .getResultList()
+                .stream()
+                .map(ResponseMappers::kasaHareket)
+                .toList());
+    }
+
+    @Benchmark
+    public List<KasaHareketResponseDto> projection() {
+        return service.getByKasa(kasaid);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.KasaAylikOzetResponseDto;
+import com.example.apartment_api.dto.KasaHareketRequestDto;
+import com.example.apartment_api.dto.KasaHareketResponseDto;
+import com.example.apartment_api.dto.KasaOzetResponseDto;
+import com.example.apartment_api.enums.KasaDirection;
+import com.example.apartment_api.service.KasaHareketService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// KasaHareketService sıcak yolları; 1k - 1M hareketlik bir kasa üzerinde
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KasaHareketServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private KasaHareketService service;
+    private UUID kasaid;
+    private int year;
+
+    private KasaHareketRequestDto inRequest;
+    private KasaHareketRequestDto outRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        service = context.getBean(KasaHareketService.class);
+
+        // her veri boyutu kendi yılında (partition'ında)
+        year = 9000 + String.valueOf(rows).length();
+        kasaid = LedgerSeeder.seedKasa(context, year, rows);
+
+        inRequest = request(KasaDirection.IN);
+        outRequest = request(KasaDirection.OUT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LedgerSeeder.dropKasa(context, kasaid);
+        context.close();
+    }
+
+    @Benchmark
+    public KasaHareketResponseDto createIn() {
+        return service.create(inRequest);
+    }
+
+    @Benchmark
+    public KasaHareketResponseDto createOut() {
+        return service.create(outRequest);
+    }
+
+    @Benchmark
+    public KasaOzetResponseDto getSummary() {
+        return service.getSummary(kasaid);
+    }
+
+    @Benchmark
+    public KasaAylikOzetResponseDto getMonthlySummary() {
+        return service.getMonthlySummary(kasaid, year, 6);
+    }
+
+    private KasaHareketRequestDto request(KasaDirection direction) {
+        KasaHareketRequestDto dto = new KasaHareketRequestDto();
+        dto.setKasaid(kasaid);
+        dto.setAmount(BigDecimal.ONE);
+        dto.setDirection(direction);
+        dto.setDescription("bench");
+        return dto;
+    }
+}
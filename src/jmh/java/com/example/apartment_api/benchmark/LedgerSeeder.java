@@ -0,0 +1,85 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.KasaRequestDto;
+import com.example.apartment_api.repository.KasaRepository;
+import com.example.apartment_api.service.KasaBakiyeService;
+import com.example.apartment_api.service.KasaGunlukOzetService;
+import com.example.apartment_api.service.KasaService;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// benchmark için bir yıllık kasa açar ve verilen sayıda hareketle doldurur
+public final class LedgerSeeder {
+
+    private static final int INSERT_BATCH = 10_000;
+
+    private LedgerSeeder() {
+    }
+
+    // rows sayısına göre sabit bir yıl: önceki koşulardan kalan kasalar partition'larıyla birlikte kaldırılır,
+    // yoksa her koşu yeni bir partition (1M satıra kadar) bırakır
+    public static UUID seedKasa(ConfigurableApplicationContext context, int year, int rows) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        KasaService kasaService = context.getBean(KasaService.class);
+
+        for (UUID eski : jdbc.queryForList("select id from kasa where years = ?", UUID.class, year)) {
+            dropKasa(context, eski);
+        }
+
+        KasaRequestDto request = new KasaRequestDto();
+        request.setYears(year);
+        UUID kasaid = kasaService.create(request).getId();
+
+        LocalDateTime start = LocalDateTime.of(year, 1, 1, 8, 0);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            // yıla yayılmış, %80 IN / %20 OUT
+            LocalDateTime createdate = start.plusDays(i % 365).plusSeconds(i / 365);
+            String direction = i % 5 == 0 ? "OUT" : "IN";
+            batch.add(new Object[]{
+                    UUID.randomUUID(), Timestamp.valueOf(createdate), kasaid,
+                    BigDecimal.valueOf(100 + i % 900), direction, "bench"
+            });
+            if (batch.size() == INSERT_BATCH) {
+                insert(jdbc, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(jdbc, batch);
+        }
+
+        // özet tabloları ham satırlardan
+        context.getBean(KasaBakiyeService.class).reconcile();
+        context.getBean(KasaGunlukOzetService.class).rebuild(kasaid);
+        jdbc.execute("analyze kasa_hareket");
+
+        return kasaid;
+    }
+
+    // kasanın partition'ını ve özetlerini kaldırır
+    public static void dropKasa(ConfigurableApplicationContext context, UUID kasaid) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String partition = context.getBean(KasaRepository.class).findHareketPartitionName(kasaid);
+        if (partition != null) {
+            jdbc.execute("drop table " + partition);
+        }
+        jdbc.update("delete from kasa_bakiye where kasaid = ?", kasaid);
+        jdbc.update("delete from kasa_gunluk_ozet where kasaid = ?", kasaid);
+        jdbc.update("update kasa set delete = true, enddate = now() where id = ?", kasaid);
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Object[]> batch) {
+        jdbc.batchUpdate("""
+                insert into kasa_hareket (id, createdate, delete, kasaid, amount, direction, description)
+                values (?, ?, false, ?, ?, ?, ?)
+                """, batch);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.*;
+import com.example.apartment_api.entity.*;
+import com.example.apartment_api.enums.KasaDirection;
+import com.example.apartment_api.enums.YapilacakStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Her servisin entity -> DTO dönüşümü. Servis mapper'ları private; ölçülen, ResponseMappers'taki
+// birebir kopyalarıdır.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapToResponseBenchmark {
+
+    private AppRole role;
+    private AppUser user;
+    private Customer customer;
+    private Daire daire;
+    private Duyuru duyuru;
+    private KasaHareket hareket;
+    private Kasa kasa;
+    private UcretType ucretType;
+    private Yapilacak yapilacak;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        role = new AppRole();
+        role.setId(UUID.randomUUID());
+        role.setCode("ADMIN");
+        role.setAciklama("Yönetici");
+
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setName("Ali");
+        customer.setSurname("Yılmaz");
+        customer.setTel("5551234567");
+        customer.setEmail("ali@example.com");
+
+        user = new AppUser();
+        user.setId(UUID.randomUUID());
+        user.setUsername("ali");
+        user.setCustomer(customer);
+        user.setRole(role);
+
+        daire = new Daire();
+        daire.setId(UUID.randomUUID());
+        daire.setDaireno("12");
+        daire.setUser(user);
+
+        duyuru = new Duyuru();
+        duyuru.setId(UUID.randomUUID());
+        duyuru.setCreatedate(now);
+        duyuru.setType("GENEL");
+        duyuru.setAciklama("Su kesintisi");
+        duyuru.setExpiredate(now.plusDays(7));
+
+        kasa = new Kasa();
+        kasa.setId(UUID.randomUUID());
+        kasa.setYears(2025);
+
+        ucretType = new UcretType();
+        ucretType.setId(UUID.randomUUID());
+        ucretType.setCode("AIDAT");
+        ucretType.setAciklama("Aylık aidat");
+
+        hareket = new KasaHareket();
+        hareket.setId(UUID.randomUUID());
+        hareket.setCreatedate(now);
+        hareket.setKasaid(kasa.getId());
+        hareket.setDaireid(daire.getId());
+        hareket.setUcrettypeid(ucretType.getId());
+        hareket.setAmount(new BigDecimal("1250.00"));
+        hareket.setDirection(KasaDirection.IN);
+        hareket.setDescription("Ocak aidatı");
+
+        yapilacak = new Yapilacak();
+        yapilacak.setId(UUID.randomUUID());
+        yapilacak.setCreatedate(now);
+        yapilacak.setType("BAKIM");
+        yapilacak.setAciklama("Asansör bakımı");
+        yapilacak.setExpiredate(now.plusDays(30));
+        yapilacak.setStatus(YapilacakStatus.values()[0]);
+    }
+
+    @Benchmark
+    public AppRoleResponseDto appRole() {
+        return ResponseMappers.appRole(role);
+    }
+
+    @Benchmark
+    public AppUserResponseDto appUser() {
+        return ResponseMappers.appUser(user);
+    }
+
+    @Benchmark
+    public CustomerResponseDto customer() {
+        return ResponseMappers.customer(customer);
+    }
+
+    @Benchmark
+    public DaireResponseDto daire() {
+        return ResponseMappers.daire(daire);
+    }
+
+    @Benchmark
+    public DuyuruResponseDto duyuru() {
+        return ResponseMappers.duyuru(duyuru);
+    }
+
+    @Benchmark
+    public KasaHareketResponseDto kasaHareket() {
+        return ResponseMappers.kasaHareket(hareket);
+    }
+
+    @Benchmark
+    public KasaResponseDto kasa() {
+        return ResponseMappers.kasa(kasa);
+    }
+
+    @Benchmark
+    public UcretTypeResponseDto ucretType() {
+        return ResponseMappers.ucretType(ucretType);
+    }
+
+    @Benchmark
+    public YapilacakResponseDto yapilacak() {
+        return ResponseMappers.yapilacak(yapilacak);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.dto.*;
+import com.example.apartment_api.entity.*;
+
+// Servislerdeki private mapToResponse metotlarının birebir kopyası. Servis mapper'ları
+// değişirse burası da güncellenmeli; benchmark production görünürlüğünü değiştirmez.
+final class ResponseMappers {
+
+    private ResponseMappers() {
+    }
+
+    static AppRoleResponseDto appRole(AppRole role) {
+        AppRoleResponseDto dto = new AppRoleResponseDto();
+        dto.setId(role.getId());
+        dto.setCode(role.getCode());
+        dto.setAciklama(role.getAciklama());
+        return dto;
+    }
+
+    static AppUserResponseDto appUser(AppUser user) {
+        AppUserResponseDto dto = new AppUserResponseDto();
+        dto.setId(user.getId());
+        dto.setUsername(user.getUsername());
+        dto.setCustomerId(user.getCustomer() != null ? user.getCustomer().getId() : null);
+        dto.setRoleId(user.getRole() != null ? user.getRole().getId() : null);
+        return dto;
+    }
+
+    static CustomerResponseDto customer(Customer customer) {
+        CustomerResponseDto dto = new CustomerResponseDto();
+        dto.setId(customer.getId());
+        dto.setName(customer.getName());
+        dto.setSurname(customer.getSurname());
+        dto.setTel(customer.getTel());
+        dto.setEmail(customer.getEmail());
+        return dto;
+    }
+
+    static DaireResponseDto daire(Daire daire) {
+        DaireResponseDto dto = new DaireResponseDto();
+        dto.setId(daire.getId());
+        dto.setDaireno(daire.getDaireno());
+        dto.setUserid(daire.getUser() != null ? daire.getUser().getId() : null);
+        return dto;
+    }
+
+    static DuyuruResponseDto duyuru(Duyuru d) {
+        DuyuruResponseDto dto = new DuyuruResponseDto();
+        dto.setId(d.getId());
+        dto.setType(d.getType());
+        dto.setAciklama(d.getAciklama());
+        dto.setExpiredate(d.getExpiredate());
+        return dto;
+    }
+
+    static KasaHareketResponseDto kasaHareket(KasaHareket e) {
+        KasaHareketResponseDto dto = new KasaHareketResponseDto();
+        dto.setId(e.getId());
+        dto.setKasaid(e.getKasaid());
+        dto.setDaireid(e.getDaireid());
+        dto.setUcrettypeid(e.getUcrettypeid());
+        dto.setAmount(e.getAmount());
+        dto.setDirection(e.getDirection());
+        dto.setDescription(e.getDescription());
+        dto.setCreatedate(e.getCreatedate());
+        return dto;
+    }
+
+    static KasaResponseDto kasa(Kasa kasa) {
+        KasaResponseDto dto = new KasaResponseDto();
+        dto.setId(kasa.getId());
+        dto.setYears(kasa.getYears());
+        return dto;
+    }
+
+    static UcretTypeResponseDto ucretType(UcretType entity) {
+        UcretTypeResponseDto dto = new UcretTypeResponseDto();
+        dto.setId(entity.getId());
+        dto.setCode(entity.getCode());
+        dto.setAciklama(entity.getAciklama());
+        return dto;
+    }
+
+    static YapilacakResponseDto yapilacak(Yapilacak y) {
+        YapilacakResponseDto dto = new YapilacakResponseDto();
+        dto.setId(y.getId());
+        dto.setType(y.getType());
+        dto.setAciklama(y.getAciklama());
+        dto.setExpiredate(y.getExpiredate());
+        dto.setStatus(y.getStatus());
+        return dto;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.apartment_api.benchmark;
+
+import com.example.apartment_api.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// rastgele UUIDv4 vs zaman sıralı UUIDv7 PK: kasa_hareket benzeri bir tabloya rows satırlık tam yükleme süresi
+// ve yükleme sonunda PK index boyutu (indexMb / tableMb yardımcı sayaçları, jmh-result.json'a yazılır)
+//   mvn -Pbenchmark compile exec:exec -Djmh.args="UuidPrimaryKeyBenchmark"
+// JMH özet satırı sayaçları 3 iterasyonun toplamı olarak basar; yükleme başına değer jmh-result.json rawData'da.
+//
+// Ölçülen (PG 16 yerel, 1 vCPU, 10M satır, yükleme başına; iterasyonlar 175-199 s / 92-99 s):
+//   keyType   süre     satır/sn   PK index   tablo
+//   random    187 s     53 400     384 MB    651 MB
+//   v7         95 s    105 400     300 MB    651 MB
+// v7 sağ kenara eklediği için yükleme ~2 kat hızlı, index sayfaları dolu kalıyor (-%22)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final String TABLE = "bench_uuid_pk";
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"random", "v7"})
+    public String keyType;
+
+    @Param({"10000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbc;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long indexMb;
+        public long tableMb;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.execute("drop table if exists " + TABLE);
+        jdbc.execute("create table " + TABLE + " ("
+                + " id uuid primary key,"
+                + " createdate timestamp(6),"
+                + " amount numeric(12, 2) not null,"
+                + " description varchar(255))");
+    }
+
+    // her ölçüm boş tabloyla başlar
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbc.execute("truncate " + TABLE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbc.execute("drop table if exists " + TABLE);
+        context.close();
+    }
+
+    @Benchmark
+    public void insertAll(Sizes sizes) {
+        boolean v7 = "v7".equals(keyType);
+        Timestamp createdate = Timestamp.valueOf(LocalDateTime.now());
+        BigDecimal amount = BigDecimal.valueOf(100);
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            UUID id = v7 ? UuidV7Generator.next() : UUID.randomUUID();
+            batch.add(new Object[]{id, createdate, amount, "bench"});
+            if (batch.size() == INSERT_BATCH) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+
+        sizes.indexMb = megabytes("pg_relation_size('" + TABLE + "_pkey')");
+        sizes.tableMb = megabytes("pg_relation_size('" + TABLE + "')");
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbc.batchUpdate("insert into " + TABLE + " (id, createdate, amount, description) values (?, ?, ?, ?)", batch);
+    }
+
+    private long megabytes(String sizeExpression) {
+        Long bytes = jdbc.queryForObject("select " + sizeExpression, Long.class);
+        return bytes != null ? bytes / (1024 * 1024) : 0;
+    }
+}
@@ -2,8 +2,10 @@ package com.example.apartment_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ApartmentApiApplication {
 
 	public static void main(String[] args) {
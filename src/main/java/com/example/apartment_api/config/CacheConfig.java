@@ -0,0 +1,54 @@
+package com.example.apartment_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// Referans verisi (yılda birkaç kez değişir) için Caffeine cache.
+// Boyut / TTL / istatistik: spring.cache.caffeine.spec (application.properties)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String UCRET_TYPES = "ucretTypes";
+    public static final String UCRET_TYPE = "ucretType";
+    public static final String APP_ROLES = "appRoles";
+    public static final String APP_ROLE = "appRole";
+    public static final String APP_ROLE_ACTIVE = "appRoleActive";
+    public static final String KASALAR = "kasalar";
+    public static final String KASA = "kasa";
+    public static final String KASA_WRITABLE = "kasaWritable";
+    public static final String DAIRELER = "daireler";
+    public static final String DAIRE = "daire";
+    public static final String DAIRELER_BY_USER = "dairelerByUser";
+
+    // kapanmış yılların yıllık kasa özeti (key: kasaid-yıl); TTL yok, yalnız evict ile düşer
+    public static final String KASA_YILLIK_OZET = "kasaYillikOzet";
+
+    public static final List<String> CACHE_NAMES = List.of(
+            UCRET_TYPES, UCRET_TYPE,
+            APP_ROLES, APP_ROLE, APP_ROLE_ACTIVE,
+            KASALAR, KASA, KASA_WRITABLE,
+            DAIRELER, DAIRE, DAIRELER_BY_USER
+    );
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> referenceCacheCustomizer() {
+        return cacheManager -> {
+            // null değerler cache'lenmez; bulunamayan kayıtlar exception ile döner
+            cacheManager.setAllowNullValues(false);
+            cacheManager.setCacheNames(CACHE_NAMES);
+
+            // geçmiş yıl raporu değişmez: ortak spec'teki expireAfterWrite uygulanmaz
+            cacheManager.registerCustomCache(KASA_YILLIK_OZET, Caffeine.newBuilder()
+                    .maximumSize(10_000)
+                    .recordStats()
+                    .build());
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.apartment_api.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Spring Data repository'leri ve controller'lar otomatik ölçülür (spring.data.repository.invocations,
+// http.server.requests). Spring Data dışındaki sınıflar için @Timed desteği.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.AppRoleRequestDto;
 import com.example.apartment_api.dto.AppRoleResponseDto;
 import com.example.apartment_api.service.AppRoleService;
@@ -44,4 +46,9 @@ public class AppRoleController {
     public void delete(@PathVariable UUID id) {
         appRoleService.delete(id);
     }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return appRoleService.deleteAll(dto.getIds());
+    }
 }
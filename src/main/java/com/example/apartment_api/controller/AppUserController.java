@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.AppUserRequestDto;
 import com.example.apartment_api.dto.AppUserResponseDto;
 import com.example.apartment_api.service.AppUserService;
@@ -44,4 +46,9 @@ public class AppUserController {
     public void delete(@PathVariable UUID id) {
         appUserService.delete(id);
     }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return appUserService.deleteAll(dto.getIds());
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.apartment_api.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    public CacheController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // cache başına hit / miss / eviction sayıları
+    @GetMapping("/stats")
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            CacheStats stats = nativeCache.stats();
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("size", nativeCache.estimatedSize());
+            row.put("hitCount", stats.hitCount());
+            row.put("missCount", stats.missCount());
+            row.put("hitRate", stats.hitRate());
+            row.put("evictionCount", stats.evictionCount());
+            result.put(name, row);
+        }
+
+        return result;
+    }
+}
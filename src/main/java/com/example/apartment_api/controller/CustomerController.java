@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.CustomerRequestDto;
 import com.example.apartment_api.dto.CustomerResponseDto;
 import com.example.apartment_api.service.CustomerService;
@@ -51,4 +53,9 @@ public class CustomerController {
     public void delete(@PathVariable UUID id) {
         customerService.delete(id);
     }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return customerService.deleteAll(dto.getIds());
+    }
 }
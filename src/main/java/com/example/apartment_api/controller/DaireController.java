@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.DaireRequestDto;
 import com.example.apartment_api.dto.DaireResponseDto;
 import com.example.apartment_api.service.DaireService;
@@ -49,4 +51,9 @@ public class DaireController {
     public void delete(@PathVariable UUID id) {
         daireService.delete(id);
     }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return daireService.deleteAll(dto.getIds());
+    }
 }
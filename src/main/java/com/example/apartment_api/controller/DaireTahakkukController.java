@@ -0,0 +1,59 @@
+package com.example.apartment_api.controller;
+
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
+import com.example.apartment_api.dto.DaireBorcResponseDto;
+import com.example.apartment_api.dto.DaireEkstreResponseDto;
+import com.example.apartment_api.dto.DaireTahakkukRequestDto;
+import com.example.apartment_api.dto.DaireTahakkukResponseDto;
+import com.example.apartment_api.service.DaireTahakkukService;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/daire-tahakkuk")
+public class DaireTahakkukController {
+
+    private final DaireTahakkukService service;
+
+    public DaireTahakkukController(DaireTahakkukService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/daire/{daireid}")
+    public List<DaireTahakkukResponseDto> getByDaire(@PathVariable UUID daireid) {
+        return service.getByDaire(daireid);
+    }
+
+    @PostMapping
+    public DaireTahakkukResponseDto create(@Valid @RequestBody DaireTahakkukRequestDto dto) {
+        return service.create(dto);
+    }
+
+    @DeleteMapping("/{id}")
+    public void delete(@PathVariable UUID id) {
+        service.delete(id);
+    }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return service.deleteAll(dto.getIds());
+    }
+
+    // daire hesap ekstresi: tahakkuk / ödeme satırları, yürüyen bakiye, ücret tipi kırılımı
+    @GetMapping("/daire/{daireid}/ekstre")
+    public DaireEkstreResponseDto getEkstre(@PathVariable UUID daireid) {
+        return service.getEkstre(daireid);
+    }
+
+    // kim ne kadar borçlu: tüm aktif daireler, ücret tipi kırılımıyla
+    @GetMapping("/borc-raporu")
+    public List<DaireBorcResponseDto> getBorcRaporu(
+            @RequestParam(defaultValue = "false") boolean onlyBorclu
+    ) {
+        return service.getBorcRaporu(onlyBorclu);
+    }
+}
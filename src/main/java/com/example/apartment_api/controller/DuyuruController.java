@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.DuyuruRequestDto;
 import com.example.apartment_api.dto.DuyuruResponseDto;
 import com.example.apartment_api.service.DuyuruService;
@@ -50,4 +52,9 @@ public class DuyuruController {
     public void delete(@PathVariable UUID id) {
         service.delete(id);
     }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return service.deleteAll(dto.getIds());
+    }
 }
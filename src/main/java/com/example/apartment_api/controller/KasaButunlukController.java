@@ -0,0 +1,30 @@
+package com.example.apartment_api.controller;
+
+import com.example.apartment_api.dto.KasaButunlukRaporDto;
+import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.service.KasaButunlukService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/kasa-hareket/butunluk")
+public class KasaButunlukController {
+
+    private final KasaButunlukService service;
+
+    public KasaButunlukController(KasaButunlukService service) {
+        this.service = service;
+    }
+
+    // son taramanın raporu (gece job'u veya elle tetiklenen)
+    @GetMapping
+    public KasaButunlukRaporDto getLast() {
+        return service.getLastRapor()
+                .orElseThrow(() -> new ResourceNotFoundException("Henüz bütünlük taraması yapılmadı"));
+    }
+
+    // taramayı beklemeden çalıştırır; çalışan bir tarama varsa 400
+    @PostMapping("/run")
+    public KasaButunlukRaporDto run() {
+        return service.scan();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.KasaRequestDto;
 import com.example.apartment_api.dto.KasaResponseDto;
 import com.example.apartment_api.service.KasaService;
@@ -45,4 +47,14 @@ public class KasaController {
         kasaService.delete(id);
     }
 
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return kasaService.deleteAll(dto.getIds());
+    }
+
+    @PostMapping("/{id}/archive")
+    public KasaResponseDto archive(@PathVariable UUID id) {
+        return kasaService.archive(id);
+    }
+
 }
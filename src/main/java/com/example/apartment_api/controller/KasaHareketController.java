@@ -1,13 +1,39 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.KasaAylikOzetResponseDto;
+import com.example.apartment_api.dto.KasaBakiyeDriftResponseDto;
+import com.example.apartment_api.dto.KasaHareketBatchRequestDto;
+import com.example.apartment_api.dto.KasaHareketBatchResponseDto;
+import com.example.apartment_api.dto.KasaHareketFilterDto;
+import com.example.apartment_api.dto.KasaHareketImportResponseDto;
+import com.example.apartment_api.dto.KasaHareketPageResponseDto;
 import com.example.apartment_api.dto.KasaHareketRequestDto;
 import com.example.apartment_api.dto.KasaHareketResponseDto;
 import com.example.apartment_api.dto.KasaOzetResponseDto;
+import com.example.apartment_api.dto.KasaYilKarsilastirmaDto;
+import com.example.apartment_api.dto.KasaYillikOzetResponseDto;
+import com.example.apartment_api.service.KasaBakiyeService;
+import com.example.apartment_api.service.KasaGunlukOzetService;
+import com.example.apartment_api.service.KasaHareketExportService;
+import com.example.apartment_api.service.KasaHareketGroupCommitter;
+import com.example.apartment_api.service.KasaHareketImportService;
 import com.example.apartment_api.service.KasaHareketService;
+import com.example.apartment_api.service.KasaRaporService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,10 +41,30 @@ import java.util.UUID;
 @RequestMapping("/api/kasa-hareket")
 public class KasaHareketController {
 
+    private static final String XLSX_MEDIA_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
     private final KasaHareketService service;
+    private final KasaBakiyeService bakiyeService;
+    private final KasaGunlukOzetService gunlukOzetService;
+    private final KasaRaporService raporService;
+    private final KasaHareketExportService exportService;
+    private final KasaHareketImportService importService;
+    private final KasaHareketGroupCommitter groupCommitter;
 
-    public KasaHareketController(KasaHareketService service) {
+    public KasaHareketController(KasaHareketService service,
+                                 KasaBakiyeService bakiyeService,
+                                 KasaGunlukOzetService gunlukOzetService,
+                                 KasaRaporService raporService,
+                                 KasaHareketExportService exportService,
+                                 KasaHareketImportService importService,
+                                 KasaHareketGroupCommitter groupCommitter) {
         this.service = service;
+        this.bakiyeService = bakiyeService;
+        this.gunlukOzetService = gunlukOzetService;
+        this.raporService = raporService;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.groupCommitter = groupCommitter;
     }
 
     @GetMapping("/kasa/{kasaid}")
@@ -26,9 +72,67 @@ public class KasaHareketController {
         return service.getByKasa(kasaid);
     }
 
+    // ?limit=100&afterDate=...&afterId=... (önceki sayfanın nextAfterDate / nextAfterId değerleri)
+    @GetMapping("/kasa/{kasaid}/page")
+    public KasaHareketPageResponseDto getPageByKasa(
+            @PathVariable UUID kasaid,
+            KasaHareketFilterDto filter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterDate,
+            @RequestParam(required = false) UUID afterId,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return service.getPageByKasa(kasaid, filter, afterDate, afterId, limit);
+    }
+
+    @GetMapping(value = "/kasa/{kasaid}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamByKasa(@PathVariable UUID kasaid,
+                                                              KasaHareketFilterDto filter) {
+        StreamingResponseBody body = out -> service.streamByKasa(kasaid, filter, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // muhasebe dışa aktarımı; tarih aralığı filtre from / to ile verilir
+    @GetMapping(value = "/kasa/{kasaid}/export/csv", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv(@PathVariable UUID kasaid,
+                                                           KasaHareketFilterDto filter) {
+        StreamingResponseBody body = out -> exportService.exportCsv(kasaid, filter, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(kasaid, "csv"))
+                .body(body);
+    }
+
+    @GetMapping(value = "/kasa/{kasaid}/export/xlsx", produces = XLSX_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportXlsx(@PathVariable UUID kasaid,
+                                                            KasaHareketFilterDto filter) {
+        StreamingResponseBody body = out -> exportService.exportXlsx(kasaid, filter, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(XLSX_MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(kasaid, "xlsx"))
+                .body(body);
+    }
+
+    // geçmiş hareketlerin toplu yüklenmesi; gövde ham CSV (Content-Type: text/csv), akış halinde okunur
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public KasaHareketImportResponseDto importCsv(
+            InputStream body,
+            @RequestParam(required = false) UUID kasaid,
+            @RequestParam(defaultValue = "false") boolean failOnError
+    ) {
+        return importService.importCsv(body, kasaid, failOnError);
+    }
+
+    // kasa.group-commit.enabled ise eşzamanlı kayıtlarla aynı commit'e girer; kapalıysa doğrudan service.create
     @PostMapping
     public KasaHareketResponseDto create(@Valid @RequestBody KasaHareketRequestDto dto) {
-        return service.create(dto);
+        return groupCommitter.create(dto);
+    }
+
+    @PostMapping("/batch")
+    public KasaHareketBatchResponseDto createBatch(@Valid @RequestBody KasaHareketBatchRequestDto dto) {
+        return service.createBatch(dto);
     }
 
     @DeleteMapping("/{id}")
@@ -36,6 +140,12 @@ public class KasaHareketController {
         service.delete(id);
     }
 
+    // kasa_bakiye / günlük özet aynı transaction'da geri alınır; yok ya da zaten silinmiş id'ler atlanır
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return service.deleteAll(dto.getIds());
+    }
+
     @GetMapping("/kasa/{kasaid}/summary")
     public KasaOzetResponseDto getSummary(@PathVariable UUID kasaid) {
         return service.getSummary(kasaid);
@@ -49,4 +159,43 @@ public class KasaHareketController {
     ) {
         return service.getMonthlySummary(kasaid, year, month);
     }
+
+    // 12 aylık kırılım + yıl toplamı; kapanmış yıllar cache'ten
+    @GetMapping("/kasa/{kasaid}/yearly-summary")
+    public KasaYillikOzetResponseDto getYearlySummary(
+            @PathVariable UUID kasaid,
+            @RequestParam int year
+    ) {
+        return raporService.getYearlySummary(kasaid, year);
+    }
+
+    // tüm kasaların (yılların) toplamları yan yana
+    @GetMapping("/yearly-comparison")
+    public List<KasaYilKarsilastirmaDto> getYearComparison() {
+        return raporService.getYearComparison();
+    }
+
+    // kasa_bakiye özetini ham hareketlerle karşılaştırır, sapmaları döner
+    @PostMapping("/reconcile")
+    public List<KasaBakiyeDriftResponseDto> reconcile() {
+        return bakiyeService.reconcile();
+    }
+
+    // kasa_gunluk_ozet backfill: dönen değer üretilen özet satırı sayısı
+    @PostMapping("/kasa/{kasaid}/gunluk-ozet/rebuild")
+    public int rebuildGunlukOzet(@PathVariable UUID kasaid) {
+        return gunlukOzetService.rebuild(kasaid);
+    }
+
+    @PostMapping("/gunluk-ozet/rebuild")
+    public int rebuildAllGunlukOzet() {
+        return gunlukOzetService.rebuildAll();
+    }
+
+    private static String attachment(UUID kasaid, String extension) {
+        return ContentDisposition.attachment()
+                .filename("kasa-hareket-" + kasaid + "-" + LocalDate.now() + "." + extension)
+                .build()
+                .toString();
+    }
 }
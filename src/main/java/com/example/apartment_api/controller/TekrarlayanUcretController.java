@@ -0,0 +1,55 @@
+package com.example.apartment_api.controller;
+
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
+import com.example.apartment_api.dto.TahakkukUretimResponseDto;
+import com.example.apartment_api.dto.TekrarlayanUcretRequestDto;
+import com.example.apartment_api.dto.TekrarlayanUcretResponseDto;
+import com.example.apartment_api.service.TekrarlayanUcretService;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/tekrarlayan-ucret")
+public class TekrarlayanUcretController {
+
+    private final TekrarlayanUcretService service;
+
+    public TekrarlayanUcretController(TekrarlayanUcretService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public List<TekrarlayanUcretResponseDto> getAll() {
+        return service.getAllActive();
+    }
+
+    @GetMapping("/{id}")
+    public TekrarlayanUcretResponseDto getById(@PathVariable UUID id) {
+        return service.getById(id);
+    }
+
+    @PostMapping
+    public TekrarlayanUcretResponseDto create(@Valid @RequestBody TekrarlayanUcretRequestDto dto) {
+        return service.create(dto);
+    }
+
+    @DeleteMapping("/{id}")
+    public void delete(@PathVariable UUID id) {
+        service.delete(id);
+    }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return service.deleteAll(dto.getIds());
+    }
+
+    // üreticiyi beklemeden çalıştırır (idempotent: tekrar çağrılması çift tahakkuk üretmez)
+    @PostMapping("/run")
+    public TahakkukUretimResponseDto run() {
+        return service.run();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.UcretTypeRequestDto;
 import com.example.apartment_api.dto.UcretTypeResponseDto;
 import com.example.apartment_api.service.UcretTypeService;
@@ -44,4 +46,9 @@ public class UcretTypeController {
     public void delete(@PathVariable UUID id) {
         ucretTypeService.delete(id);
     }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return ucretTypeService.deleteAll(dto.getIds());
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.apartment_api.controller;
 
+import com.example.apartment_api.dto.BulkDeleteRequestDto;
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.YapilacakRequestDto;
 import com.example.apartment_api.dto.YapilacakResponseDto;
 import com.example.apartment_api.enums.YapilacakStatus;
@@ -58,6 +60,11 @@ public class YapilacakController {
         service.delete(id);
     }
 
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResponseDto deleteAll(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        return service.deleteAll(dto.getIds());
+    }
+
     @GetMapping("/status-count")
     public Map<YapilacakStatus, Long> getStatusCount() {
         return service.getStatusCount();
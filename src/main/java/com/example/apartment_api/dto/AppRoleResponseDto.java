@@ -8,6 +8,15 @@ public class AppRoleResponseDto {
     private String code;
     private String aciklama;
 
+    public AppRoleResponseDto() {
+    }
+
+    public AppRoleResponseDto(UUID id, String code, String aciklama) {
+        this.id = id;
+        this.code = code;
+        this.aciklama = aciklama;
+    }
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
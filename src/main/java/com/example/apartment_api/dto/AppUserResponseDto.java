@@ -12,6 +12,16 @@ public class AppUserResponseDto {
 
     // İstersen roleCode / roleAciklama da döndürebiliriz, şimdilik sade
 
+    public AppUserResponseDto() {
+    }
+
+    public AppUserResponseDto(UUID id, String username, UUID customerId, UUID roleId) {
+        this.id = id;
+        this.username = username;
+        this.customerId = customerId;
+        this.roleId = roleId;
+    }
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -0,0 +1,18 @@
+package com.example.apartment_api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BulkDeleteRequestDto {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull UUID> ids;
+
+    public List<UUID> getIds() { return ids; }
+    public void setIds(List<UUID> ids) { this.ids = ids; }
+}
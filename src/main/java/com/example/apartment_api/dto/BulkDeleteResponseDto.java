@@ -0,0 +1,23 @@
+package com.example.apartment_api.dto;
+
+public class BulkDeleteResponseDto {
+
+    // istekteki (tekilleştirilmiş) id sayısı
+    private int requested;
+    // gerçekten silinen; kalan id'ler yok ya da zaten silinmiş
+    private int deleted;
+
+    public BulkDeleteResponseDto() {
+    }
+
+    public BulkDeleteResponseDto(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getDeleted() { return deleted; }
+    public void setDeleted(int deleted) { this.deleted = deleted; }
+}
@@ -10,6 +10,17 @@ public class CustomerResponseDto {
     private String tel;
     private String email;
 
+    public CustomerResponseDto() {
+    }
+
+    public CustomerResponseDto(UUID id, String name, String surname, String tel, String email) {
+        this.id = id;
+        this.name = name;
+        this.surname = surname;
+        this.tel = tel;
+        this.email = email;
+    }
+
     // getter & setter
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
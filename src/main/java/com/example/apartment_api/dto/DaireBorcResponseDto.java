@@ -0,0 +1,36 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+// borç raporu satırı (daire başına); bakiye > 0 ise daire borçlu
+public class DaireBorcResponseDto {
+
+    private UUID daireid;
+    private String daireno;
+
+    private BigDecimal borc = BigDecimal.ZERO;
+    private BigDecimal alacak = BigDecimal.ZERO;
+    private BigDecimal bakiye = BigDecimal.ZERO;
+
+    private List<DaireUcretTypeOzetDto> ucretTypes;
+
+    public UUID getDaireid() { return daireid; }
+    public void setDaireid(UUID daireid) { this.daireid = daireid; }
+
+    public String getDaireno() { return daireno; }
+    public void setDaireno(String daireno) { this.daireno = daireno; }
+
+    public BigDecimal getBorc() { return borc; }
+    public void setBorc(BigDecimal borc) { this.borc = borc; }
+
+    public BigDecimal getAlacak() { return alacak; }
+    public void setAlacak(BigDecimal alacak) { this.alacak = alacak; }
+
+    public BigDecimal getBakiye() { return bakiye; }
+    public void setBakiye(BigDecimal bakiye) { this.bakiye = bakiye; }
+
+    public List<DaireUcretTypeOzetDto> getUcretTypes() { return ucretTypes; }
+    public void setUcretTypes(List<DaireUcretTypeOzetDto> ucretTypes) { this.ucretTypes = ucretTypes; }
+}
@@ -0,0 +1,41 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class DaireEkstreResponseDto {
+
+    private UUID daireid;
+    private String daireno;
+
+    private BigDecimal borc;
+    private BigDecimal alacak;
+    private BigDecimal bakiye;
+
+    private List<DaireUcretTypeOzetDto> ucretTypes;
+
+    // tarih sırasıyla, yürüyen bakiyeli
+    private List<DaireEkstreSatirDto> satirlar;
+
+    public UUID getDaireid() { return daireid; }
+    public void setDaireid(UUID daireid) { this.daireid = daireid; }
+
+    public String getDaireno() { return daireno; }
+    public void setDaireno(String daireno) { this.daireno = daireno; }
+
+    public BigDecimal getBorc() { return borc; }
+    public void setBorc(BigDecimal borc) { this.borc = borc; }
+
+    public BigDecimal getAlacak() { return alacak; }
+    public void setAlacak(BigDecimal alacak) { this.alacak = alacak; }
+
+    public BigDecimal getBakiye() { return bakiye; }
+    public void setBakiye(BigDecimal bakiye) { this.bakiye = bakiye; }
+
+    public List<DaireUcretTypeOzetDto> getUcretTypes() { return ucretTypes; }
+    public void setUcretTypes(List<DaireUcretTypeOzetDto> ucretTypes) { this.ucretTypes = ucretTypes; }
+
+    public List<DaireEkstreSatirDto> getSatirlar() { return satirlar; }
+    public void setSatirlar(List<DaireEkstreSatirDto> satirlar) { this.satirlar = satirlar; }
+}
@@ -0,0 +1,45 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// ekstre satırı: tahakkuk (borç), ödeme (alacak) veya iade (borç)
+public class DaireEkstreSatirDto {
+
+    private LocalDateTime tarih;
+    private String kaynak;
+    private UUID id;
+    private UUID ucrettypeid;
+    private String description;
+
+    private BigDecimal borc;
+    private BigDecimal alacak;
+
+    // bu satır dahil kalan borç
+    private BigDecimal bakiye;
+
+    public LocalDateTime getTarih() { return tarih; }
+    public void setTarih(LocalDateTime tarih) { this.tarih = tarih; }
+
+    public String getKaynak() { return kaynak; }
+    public void setKaynak(String kaynak) { this.kaynak = kaynak; }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public BigDecimal getBorc() { return borc; }
+    public void setBorc(BigDecimal borc) { this.borc = borc; }
+
+    public BigDecimal getAlacak() { return alacak; }
+    public void setAlacak(BigDecimal alacak) { this.alacak = alacak; }
+
+    public BigDecimal getBakiye() { return bakiye; }
+    public void setBakiye(BigDecimal bakiye) { this.bakiye = bakiye; }
+}
@@ -8,6 +8,15 @@ public class DaireResponseDto {
     private UUID userid;
     private String daireno;
 
+    public DaireResponseDto() {
+    }
+
+    public DaireResponseDto(UUID id, UUID userid, String daireno) {
+        this.id = id;
+        this.userid = userid;
+        this.daireno = daireno;
+    }
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -0,0 +1,42 @@
+package com.example.apartment_api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class DaireTahakkukRequestDto {
+
+    @NotNull(message = "daireid cannot be null")
+    private UUID daireid;
+
+    @NotNull(message = "ucrettypeid cannot be null")
+    private UUID ucrettypeid;
+
+    // ay içindeki herhangi bir gün; ayın ilk gününe yuvarlanır
+    @NotNull(message = "donem cannot be null")
+    private LocalDate donem;
+
+    @NotNull
+    @Positive
+    private BigDecimal amount;
+
+    private String description;
+
+    public UUID getDaireid() { return daireid; }
+    public void setDaireid(UUID daireid) { this.daireid = daireid; }
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public LocalDate getDonem() { return donem; }
+    public void setDonem(LocalDate donem) { this.donem = donem; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
@@ -0,0 +1,57 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class DaireTahakkukResponseDto {
+
+    private UUID id;
+    private UUID daireid;
+    private UUID ucrettypeid;
+    private LocalDate donem;
+    private BigDecimal amount;
+    private String description;
+    private LocalDateTime createdate;
+
+    public DaireTahakkukResponseDto() {
+    }
+
+    public DaireTahakkukResponseDto(UUID id,
+                                    UUID daireid,
+                                    UUID ucrettypeid,
+                                    LocalDate donem,
+                                    BigDecimal amount,
+                                    String description,
+                                    LocalDateTime createdate) {
+        this.id = id;
+        this.daireid = daireid;
+        this.ucrettypeid = ucrettypeid;
+        this.donem = donem;
+        this.amount = amount;
+        this.description = description;
+        this.createdate = createdate;
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getDaireid() { return daireid; }
+    public void setDaireid(UUID daireid) { this.daireid = daireid; }
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public LocalDate getDonem() { return donem; }
+    public void setDonem(LocalDate donem) { this.donem = donem; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public LocalDateTime getCreatedate() { return createdate; }
+    public void setCreatedate(LocalDateTime createdate) { this.createdate = createdate; }
+}
@@ -0,0 +1,26 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class DaireUcretTypeOzetDto {
+
+    // ödeme ücret tipi belirtilmeden alındıysa null
+    private UUID ucrettypeid;
+
+    private BigDecimal borc = BigDecimal.ZERO;
+    private BigDecimal alacak = BigDecimal.ZERO;
+    private BigDecimal bakiye = BigDecimal.ZERO;
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public BigDecimal getBorc() { return borc; }
+    public void setBorc(BigDecimal borc) { this.borc = borc; }
+
+    public BigDecimal getAlacak() { return alacak; }
+    public void setAlacak(BigDecimal alacak) { this.alacak = alacak; }
+
+    public BigDecimal getBakiye() { return bakiye; }
+    public void setBakiye(BigDecimal bakiye) { this.bakiye = bakiye; }
+}
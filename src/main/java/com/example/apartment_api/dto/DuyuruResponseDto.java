@@ -10,6 +10,16 @@ public class DuyuruResponseDto {
     private String aciklama;
     private LocalDateTime expiredate;
 
+    public DuyuruResponseDto() {
+    }
+
+    public DuyuruResponseDto(UUID id, String type, String aciklama, LocalDateTime expiredate) {
+        this.id = id;
+        this.type = type;
+        this.aciklama = aciklama;
+        this.expiredate = expiredate;
+    }
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
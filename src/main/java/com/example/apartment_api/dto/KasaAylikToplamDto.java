@@ -0,0 +1,33 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+
+public class KasaAylikToplamDto {
+
+    private int month;
+
+    private BigDecimal totalIn;
+    private BigDecimal totalOut;
+    private BigDecimal balance;
+
+    private long inCount;
+    private long outCount;
+
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+
+    public BigDecimal getTotalIn() { return totalIn; }
+    public void setTotalIn(BigDecimal totalIn) { this.totalIn = totalIn; }
+
+    public BigDecimal getTotalOut() { return totalOut; }
+    public void setTotalOut(BigDecimal totalOut) { this.totalOut = totalOut; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public long getInCount() { return inCount; }
+    public void setInCount(long inCount) { this.inCount = inCount; }
+
+    public long getOutCount() { return outCount; }
+    public void setOutCount(long outCount) { this.outCount = outCount; }
+}
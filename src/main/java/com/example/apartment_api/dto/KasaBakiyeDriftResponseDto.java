@@ -0,0 +1,40 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class KasaBakiyeDriftResponseDto {
+
+    private UUID kasaid;
+
+    // kasa_bakiye'de duran değerler
+    private BigDecimal snapshotTotalIn;
+    private BigDecimal snapshotTotalOut;
+    private long snapshotHareketCount;
+
+    // kasa_hareket'ten yeniden hesaplanan değerler
+    private BigDecimal actualTotalIn;
+    private BigDecimal actualTotalOut;
+    private long actualHareketCount;
+
+    public UUID getKasaid() { return kasaid; }
+    public void setKasaid(UUID kasaid) { this.kasaid = kasaid; }
+
+    public BigDecimal getSnapshotTotalIn() { return snapshotTotalIn; }
+    public void setSnapshotTotalIn(BigDecimal snapshotTotalIn) { this.snapshotTotalIn = snapshotTotalIn; }
+
+    public BigDecimal getSnapshotTotalOut() { return snapshotTotalOut; }
+    public void setSnapshotTotalOut(BigDecimal snapshotTotalOut) { this.snapshotTotalOut = snapshotTotalOut; }
+
+    public long getSnapshotHareketCount() { return snapshotHareketCount; }
+    public void setSnapshotHareketCount(long snapshotHareketCount) { this.snapshotHareketCount = snapshotHareketCount; }
+
+    public BigDecimal getActualTotalIn() { return actualTotalIn; }
+    public void setActualTotalIn(BigDecimal actualTotalIn) { this.actualTotalIn = actualTotalIn; }
+
+    public BigDecimal getActualTotalOut() { return actualTotalOut; }
+    public void setActualTotalOut(BigDecimal actualTotalOut) { this.actualTotalOut = actualTotalOut; }
+
+    public long getActualHareketCount() { return actualHareketCount; }
+    public void setActualHareketCount(long actualHareketCount) { this.actualHareketCount = actualHareketCount; }
+}
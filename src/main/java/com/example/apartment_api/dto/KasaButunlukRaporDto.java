@@ -0,0 +1,45 @@
+package com.example.apartment_api.dto;
+
+import com.example.apartment_api.enums.ButunlukSorunTipi;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class KasaButunlukRaporDto {
+
+    private LocalDateTime startedAt;
+    private long durationMs;
+
+    private long scannedCount;
+    private long chunkCount;
+
+    private long sorunCount;
+    private Map<ButunlukSorunTipi, Long> sorunByTip = new EnumMap<>(ButunlukSorunTipi.class);
+
+    // en fazla ilk 1000 sorun
+    private List<KasaButunlukSorunDto> ornekler = new ArrayList<>();
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+
+    public long getScannedCount() { return scannedCount; }
+    public void setScannedCount(long scannedCount) { this.scannedCount = scannedCount; }
+
+    public long getChunkCount() { return chunkCount; }
+    public void setChunkCount(long chunkCount) { this.chunkCount = chunkCount; }
+
+    public long getSorunCount() { return sorunCount; }
+    public void setSorunCount(long sorunCount) { this.sorunCount = sorunCount; }
+
+    public Map<ButunlukSorunTipi, Long> getSorunByTip() { return sorunByTip; }
+    public void setSorunByTip(Map<ButunlukSorunTipi, Long> sorunByTip) { this.sorunByTip = sorunByTip; }
+
+    public List<KasaButunlukSorunDto> getOrnekler() { return ornekler; }
+    public void setOrnekler(List<KasaButunlukSorunDto> ornekler) { this.ornekler = ornekler; }
+}
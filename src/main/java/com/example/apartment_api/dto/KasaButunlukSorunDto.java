@@ -0,0 +1,35 @@
+package com.example.apartment_api.dto;
+
+import com.example.apartment_api.enums.ButunlukSorunTipi;
+
+import java.util.UUID;
+
+public class KasaButunlukSorunDto {
+
+    private UUID hareketid;
+    private UUID kasaid;
+    private ButunlukSorunTipi tip;
+    private String detay;
+
+    public KasaButunlukSorunDto() {
+    }
+
+    public KasaButunlukSorunDto(UUID hareketid, UUID kasaid, ButunlukSorunTipi tip, String detay) {
+        this.hareketid = hareketid;
+        this.kasaid = kasaid;
+        this.tip = tip;
+        this.detay = detay;
+    }
+
+    public UUID getHareketid() { return hareketid; }
+    public void setHareketid(UUID hareketid) { this.hareketid = hareketid; }
+
+    public UUID getKasaid() { return kasaid; }
+    public void setKasaid(UUID kasaid) { this.kasaid = kasaid; }
+
+    public ButunlukSorunTipi getTip() { return tip; }
+    public void setTip(ButunlukSorunTipi tip) { this.tip = tip; }
+
+    public String getDetay() { return detay; }
+    public void setDetay(String detay) { this.detay = detay; }
+}
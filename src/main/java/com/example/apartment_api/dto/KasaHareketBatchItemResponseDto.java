@@ -0,0 +1,40 @@
+package com.example.apartment_api.dto;
+
+import java.util.UUID;
+
+public class KasaHareketBatchItemResponseDto {
+
+    // istekteki items listesindeki sıra
+    private int index;
+    private boolean success;
+    private UUID id;
+    private String message;
+
+    public static KasaHareketBatchItemResponseDto succeeded(int index, UUID id) {
+        KasaHareketBatchItemResponseDto dto = new KasaHareketBatchItemResponseDto();
+        dto.setIndex(index);
+        dto.setSuccess(true);
+        dto.setId(id);
+        return dto;
+    }
+
+    public static KasaHareketBatchItemResponseDto failed(int index, String message) {
+        KasaHareketBatchItemResponseDto dto = new KasaHareketBatchItemResponseDto();
+        dto.setIndex(index);
+        dto.setSuccess(false);
+        dto.setMessage(message);
+        return dto;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
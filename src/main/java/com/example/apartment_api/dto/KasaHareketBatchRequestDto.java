@@ -0,0 +1,17 @@
+package com.example.apartment_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class KasaHareketBatchRequestDto {
+
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid KasaHareketRequestDto> items;
+
+    public List<KasaHareketRequestDto> getItems() { return items; }
+    public void setItems(List<KasaHareketRequestDto> items) { this.items = items; }
+}
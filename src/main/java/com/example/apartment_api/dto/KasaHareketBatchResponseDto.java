@@ -0,0 +1,23 @@
+package com.example.apartment_api.dto;
+
+import java.util.List;
+
+public class KasaHareketBatchResponseDto {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<KasaHareketBatchItemResponseDto> results;
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<KasaHareketBatchItemResponseDto> getResults() { return results; }
+    public void setResults(List<KasaHareketBatchItemResponseDto> results) { this.results = results; }
+}
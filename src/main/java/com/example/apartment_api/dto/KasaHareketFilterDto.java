@@ -0,0 +1,37 @@
+package com.example.apartment_api.dto;
+
+import com.example.apartment_api.enums.KasaDirection;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// kasa hareket listeleme filtreleri (query param olarak bağlanır, hepsi opsiyonel)
+public class KasaHareketFilterDto {
+
+    private KasaDirection direction;
+    private UUID daireid;
+    private UUID ucrettypeid;
+
+    // [from, to) aralığı
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    public KasaDirection getDirection() { return direction; }
+    public void setDirection(KasaDirection direction) { this.direction = direction; }
+
+    public UUID getDaireid() { return daireid; }
+    public void setDaireid(UUID daireid) { this.daireid = daireid; }
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+}
@@ -0,0 +1,21 @@
+package com.example.apartment_api.dto;
+
+public class KasaHareketImportErrorDto {
+
+    private long line;
+    private String message;
+
+    public KasaHareketImportErrorDto() {
+    }
+
+    public KasaHareketImportErrorDto(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() { return line; }
+    public void setLine(long line) { this.line = line; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
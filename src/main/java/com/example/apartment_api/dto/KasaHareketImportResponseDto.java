@@ -0,0 +1,49 @@
+package com.example.apartment_api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class KasaHareketImportResponseDto {
+
+    // başlık hariç okunan kayıt sayısı
+    private long totalRows;
+    private long importedCount;
+    private long errorCount;
+
+    // failOnError ile hata varsa hiçbir satır yazılmaz
+    private boolean rolledBack;
+
+    // en fazla ilk 1000 hata
+    private List<KasaHareketImportErrorDto> errors = new ArrayList<>();
+
+    private Set<UUID> kasaids;
+
+    private long durationMs;
+    private double rowsPerSecond;
+
+    public long getTotalRows() { return totalRows; }
+    public void setTotalRows(long totalRows) { this.totalRows = totalRows; }
+
+    public long getImportedCount() { return importedCount; }
+    public void setImportedCount(long importedCount) { this.importedCount = importedCount; }
+
+    public long getErrorCount() { return errorCount; }
+    public void setErrorCount(long errorCount) { this.errorCount = errorCount; }
+
+    public boolean isRolledBack() { return rolledBack; }
+    public void setRolledBack(boolean rolledBack) { this.rolledBack = rolledBack; }
+
+    public List<KasaHareketImportErrorDto> getErrors() { return errors; }
+    public void setErrors(List<KasaHareketImportErrorDto> errors) { this.errors = errors; }
+
+    public Set<UUID> getKasaids() { return kasaids; }
+    public void setKasaids(Set<UUID> kasaids) { this.kasaids = kasaids; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+}
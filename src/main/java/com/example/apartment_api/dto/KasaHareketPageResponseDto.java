@@ -0,0 +1,27 @@
+package com.example.apartment_api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class KasaHareketPageResponseDto {
+
+    private List<KasaHareketResponseDto> items;
+    private boolean hasMore;
+
+    // sonraki sayfa için afterDate / afterId olarak gönderilir
+    private LocalDateTime nextAfterDate;
+    private UUID nextAfterId;
+
+    public List<KasaHareketResponseDto> getItems() { return items; }
+    public void setItems(List<KasaHareketResponseDto> items) { this.items = items; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+
+    public LocalDateTime getNextAfterDate() { return nextAfterDate; }
+    public void setNextAfterDate(LocalDateTime nextAfterDate) { this.nextAfterDate = nextAfterDate; }
+
+    public UUID getNextAfterId() { return nextAfterId; }
+    public void setNextAfterId(UUID nextAfterId) { this.nextAfterId = nextAfterId; }
+}
@@ -3,6 +3,7 @@ package com.example.apartment_api.dto;
 import com.example.apartment_api.enums.KasaDirection;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public class KasaHareketResponseDto {
@@ -14,6 +15,28 @@ public class KasaHareketResponseDto {
     private BigDecimal amount;
     private KasaDirection direction;
     private String description;
+    private LocalDateTime createdate;
+
+    public KasaHareketResponseDto() {
+    }
+
+    public KasaHareketResponseDto(UUID id,
+                                  UUID kasaid,
+                                  UUID daireid,
+                                  UUID ucrettypeid,
+                                  BigDecimal amount,
+                                  KasaDirection direction,
+                                  String description,
+                                  LocalDateTime createdate) {
+        this.id = id;
+        this.kasaid = kasaid;
+        this.daireid = daireid;
+        this.ucrettypeid = ucrettypeid;
+        this.amount = amount;
+        this.direction = direction;
+        this.description = description;
+        this.createdate = createdate;
+    }
 
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
@@ -35,4 +58,7 @@ public class KasaHareketResponseDto {
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
+
+    public LocalDateTime getCreatedate() { return createdate; }
+    public void setCreatedate(LocalDateTime createdate) { this.createdate = createdate; }
 }
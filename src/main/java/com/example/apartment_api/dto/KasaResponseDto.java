@@ -7,6 +7,14 @@ public class KasaResponseDto {
     private UUID id;
     private Integer years;
 
+    public KasaResponseDto() {
+    }
+
+    public KasaResponseDto(UUID id, Integer years) {
+        this.id = id;
+        this.years = years;
+    }
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -0,0 +1,44 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class KasaYilKarsilastirmaDto {
+
+    private UUID kasaid;
+    private Integer years;
+
+    private BigDecimal totalIn;
+    private BigDecimal totalOut;
+    private BigDecimal balance;
+
+    private long hareketCount;
+    private LocalDateTime lastTransactionDate;
+
+    private boolean arsivlendi;
+
+    public UUID getKasaid() { return kasaid; }
+    public void setKasaid(UUID kasaid) { this.kasaid = kasaid; }
+
+    public Integer getYears() { return years; }
+    public void setYears(Integer years) { this.years = years; }
+
+    public BigDecimal getTotalIn() { return totalIn; }
+    public void setTotalIn(BigDecimal totalIn) { this.totalIn = totalIn; }
+
+    public BigDecimal getTotalOut() { return totalOut; }
+    public void setTotalOut(BigDecimal totalOut) { this.totalOut = totalOut; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public long getHareketCount() { return hareketCount; }
+    public void setHareketCount(long hareketCount) { this.hareketCount = hareketCount; }
+
+    public LocalDateTime getLastTransactionDate() { return lastTransactionDate; }
+    public void setLastTransactionDate(LocalDateTime lastTransactionDate) { this.lastTransactionDate = lastTransactionDate; }
+
+    public boolean isArsivlendi() { return arsivlendi; }
+    public void setArsivlendi(boolean arsivlendi) { this.arsivlendi = arsivlendi; }
+}
@@ -0,0 +1,49 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class KasaYillikOzetResponseDto {
+
+    private UUID kasaid;
+    private int year;
+
+    private BigDecimal totalIn;
+    private BigDecimal totalOut;
+    private BigDecimal balance;
+
+    private long hareketCount;
+    private long inCount;
+    private long outCount;
+
+    // 12 ay, hareketsiz aylar 0
+    private List<KasaAylikToplamDto> months;
+
+    public UUID getKasaid() { return kasaid; }
+    public void setKasaid(UUID kasaid) { this.kasaid = kasaid; }
+
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public BigDecimal getTotalIn() { return totalIn; }
+    public void setTotalIn(BigDecimal totalIn) { this.totalIn = totalIn; }
+
+    public BigDecimal getTotalOut() { return totalOut; }
+    public void setTotalOut(BigDecimal totalOut) { this.totalOut = totalOut; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public long getHareketCount() { return hareketCount; }
+    public void setHareketCount(long hareketCount) { this.hareketCount = hareketCount; }
+
+    public long getInCount() { return inCount; }
+    public void setInCount(long inCount) { this.inCount = inCount; }
+
+    public long getOutCount() { return outCount; }
+    public void setOutCount(long outCount) { this.outCount = outCount; }
+
+    public List<KasaAylikToplamDto> getMonths() { return months; }
+    public void setMonths(List<KasaAylikToplamDto> months) { this.months = months; }
+}
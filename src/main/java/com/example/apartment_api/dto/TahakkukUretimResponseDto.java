@@ -0,0 +1,35 @@
+package com.example.apartment_api.dto;
+
+// tekrarlayan ücret üreticisinin bir çalıştırmasının sonucu
+public class TahakkukUretimResponseDto {
+
+    private int tanimCount;
+    private int donemCount;
+
+    // yeni yazılan tahakkuk satırları
+    private long insertedCount;
+
+    // zaten var olduğu için atlananlar (tekrar çalıştırma / elle girilmiş)
+    private long skippedCount;
+
+    private long durationMs;
+    private double rowsPerSecond;
+
+    public int getTanimCount() { return tanimCount; }
+    public void setTanimCount(int tanimCount) { this.tanimCount = tanimCount; }
+
+    public int getDonemCount() { return donemCount; }
+    public void setDonemCount(int donemCount) { this.donemCount = donemCount; }
+
+    public long getInsertedCount() { return insertedCount; }
+    public void setInsertedCount(long insertedCount) { this.insertedCount = insertedCount; }
+
+    public long getSkippedCount() { return skippedCount; }
+    public void setSkippedCount(long skippedCount) { this.skippedCount = skippedCount; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+}
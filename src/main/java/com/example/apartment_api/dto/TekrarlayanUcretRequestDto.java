@@ -0,0 +1,54 @@
+package com.example.apartment_api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+public class TekrarlayanUcretRequestDto {
+
+    @NotNull(message = "ucrettypeid cannot be null")
+    private UUID ucrettypeid;
+
+    @NotNull
+    @Positive
+    private BigDecimal amount;
+
+    // her ay 28'den sonrası şubatta olmadığı için 1-28
+    @NotNull
+    @Min(1)
+    @Max(28)
+    private Integer gun;
+
+    // ilk tahakkuk dönemi (ay içindeki herhangi bir gün)
+    @NotNull(message = "baslangicDonem cannot be null")
+    private LocalDate baslangicDonem;
+
+    // boş ise tüm aktif daireler
+    private Set<UUID> daireler;
+
+    private String description;
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public Integer getGun() { return gun; }
+    public void setGun(Integer gun) { this.gun = gun; }
+
+    public LocalDate getBaslangicDonem() { return baslangicDonem; }
+    public void setBaslangicDonem(LocalDate baslangicDonem) { this.baslangicDonem = baslangicDonem; }
+
+    public Set<UUID> getDaireler() { return daireler; }
+    public void setDaireler(Set<UUID> daireler) { this.daireler = daireler; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
@@ -0,0 +1,46 @@
+package com.example.apartment_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+public class TekrarlayanUcretResponseDto {
+
+    private UUID id;
+    private UUID ucrettypeid;
+    private BigDecimal amount;
+    private Integer gun;
+    private LocalDate baslangicDonem;
+    private LocalDate sonDonem;
+    private boolean tumDaireler;
+    private Set<UUID> daireler;
+    private String description;
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public Integer getGun() { return gun; }
+    public void setGun(Integer gun) { this.gun = gun; }
+
+    public LocalDate getBaslangicDonem() { return baslangicDonem; }
+    public void setBaslangicDonem(LocalDate baslangicDonem) { this.baslangicDonem = baslangicDonem; }
+
+    public LocalDate getSonDonem() { return sonDonem; }
+    public void setSonDonem(LocalDate sonDonem) { this.sonDonem = sonDonem; }
+
+    public boolean isTumDaireler() { return tumDaireler; }
+    public void setTumDaireler(boolean tumDaireler) { this.tumDaireler = tumDaireler; }
+
+    public Set<UUID> getDaireler() { return daireler; }
+    public void setDaireler(Set<UUID> daireler) { this.daireler = daireler; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
@@ -8,6 +8,15 @@ public class UcretTypeResponseDto {
     private String code;
     private String aciklama;
 
+    public UcretTypeResponseDto() {
+    }
+
+    public UcretTypeResponseDto(UUID id, String code, String aciklama) {
+        this.id = id;
+        this.code = code;
+        this.aciklama = aciklama;
+    }
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -13,6 +13,21 @@ public class YapilacakResponseDto {
     private LocalDateTime expiredate;
     private YapilacakStatus status;
 
+    public YapilacakResponseDto() {
+    }
+
+    public YapilacakResponseDto(UUID id,
+                                String type,
+                                String aciklama,
+                                LocalDateTime expiredate,
+                                YapilacakStatus status) {
+        this.id = id;
+        this.type = type;
+        this.aciklama = aciklama;
+        this.expiredate = expiredate;
+        this.status = status;
+    }
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
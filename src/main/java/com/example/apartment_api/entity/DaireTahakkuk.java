@@ -0,0 +1,71 @@
+package com.example.apartment_api.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// daireye yazılan ücret (borç); ödemesi kasa_hareket'te IN olarak gelir
+@Entity
+@Table(name = "daire_tahakkuk")
+public class DaireTahakkuk {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    private LocalDateTime createdate;
+    private LocalDateTime updatedate;
+    private LocalDateTime enddate;
+
+    @Column(name = "delete")
+    private Boolean deleted = false;
+
+    @Column(nullable = false)
+    private UUID daireid;
+
+    @Column(nullable = false)
+    private UUID ucrettypeid;
+
+    // ayın ilk günü
+    @Column(nullable = false)
+    private LocalDate donem;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    private String description;
+
+    // getter & setter
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public LocalDateTime getCreatedate() { return createdate; }
+    public void setCreatedate(LocalDateTime createdate) { this.createdate = createdate; }
+
+    public LocalDateTime getUpdatedate() { return updatedate; }
+    public void setUpdatedate(LocalDateTime updatedate) { this.updatedate = updatedate; }
+
+    public LocalDateTime getEnddate() { return enddate; }
+    public void setEnddate(LocalDateTime enddate) { this.enddate = enddate; }
+
+    public Boolean getDeleted() { return deleted; }
+    public void setDeleted(Boolean deleted) { this.deleted = deleted; }
+
+    public UUID getDaireid() { return daireid; }
+    public void setDaireid(UUID daireid) { this.daireid = daireid; }
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public LocalDate getDonem() { return donem; }
+    public void setDonem(LocalDate donem) { this.donem = donem; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
@@ -9,7 +9,7 @@ import java.util.UUID;
 public class Kasa {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     private LocalDateTime createdate;
@@ -22,6 +22,9 @@ public class Kasa {
     @Column(unique = true)
     private Integer years;
 
+    // kasa_hareket partition'ı ayrıldığında (arşiv) set edilir
+    private LocalDateTime arsivdate;
+
     // getter & setter
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
@@ -40,4 +43,7 @@ public class Kasa {
 
     public Integer getYears() { return years; }
     public void setYears(Integer years) { this.years = years; }
+
+    public LocalDateTime getArsivdate() { return arsivdate; }
+    public void setArsivdate(LocalDateTime arsivdate) { this.arsivdate = arsivdate; }
 }
@@ -0,0 +1,58 @@
+package com.example.apartment_api.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// kasa başına bakiye özeti; her hareket insert/soft-delete'inde aynı transaction içinde güncellenir
+@Entity
+@Table(name = "kasa_bakiye")
+public class KasaBakiye {
+
+    @Id
+    private UUID kasaid;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalIn = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalOut = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private long inCount;
+
+    @Column(nullable = false)
+    private long outCount;
+
+    private LocalDateTime lastTransactionDate;
+
+    private LocalDateTime updatedate;
+
+    // getter & setter
+    public UUID getKasaid() { return kasaid; }
+    public void setKasaid(UUID kasaid) { this.kasaid = kasaid; }
+
+    public BigDecimal getTotalIn() { return totalIn; }
+    public void setTotalIn(BigDecimal totalIn) { this.totalIn = totalIn; }
+
+    public BigDecimal getTotalOut() { return totalOut; }
+    public void setTotalOut(BigDecimal totalOut) { this.totalOut = totalOut; }
+
+    public long getInCount() { return inCount; }
+    public void setInCount(long inCount) { this.inCount = inCount; }
+
+    public long getOutCount() { return outCount; }
+    public void setOutCount(long outCount) { this.outCount = outCount; }
+
+    public LocalDateTime getLastTransactionDate() { return lastTransactionDate; }
+    public void setLastTransactionDate(LocalDateTime lastTransactionDate) { this.lastTransactionDate = lastTransactionDate; }
+
+    public LocalDateTime getUpdatedate() { return updatedate; }
+    public void setUpdatedate(LocalDateTime updatedate) { this.updatedate = updatedate; }
+
+    public BigDecimal getBalance() {
+        return totalIn.subtract(totalOut);
+    }
+}
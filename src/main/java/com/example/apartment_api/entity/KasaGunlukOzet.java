@@ -0,0 +1,47 @@
+package com.example.apartment_api.entity;
+
+import com.example.apartment_api.enums.KasaDirection;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// kasa_hareket'in gün + yön bazında özeti; create/soft-delete'de artımlı güncellenir
+@Entity
+@Table(name = "kasa_gunluk_ozet")
+@IdClass(KasaGunlukOzetId.class)
+public class KasaGunlukOzet {
+
+    @Id
+    private UUID kasaid;
+
+    @Id
+    private LocalDate gun;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private KasaDirection direction;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal toplam = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private long adet;
+
+    // getter & setter
+    public UUID getKasaid() { return kasaid; }
+    public void setKasaid(UUID kasaid) { this.kasaid = kasaid; }
+
+    public LocalDate getGun() { return gun; }
+    public void setGun(LocalDate gun) { this.gun = gun; }
+
+    public KasaDirection getDirection() { return direction; }
+    public void setDirection(KasaDirection direction) { this.direction = direction; }
+
+    public BigDecimal getToplam() { return toplam; }
+    public void setToplam(BigDecimal toplam) { this.toplam = toplam; }
+
+    public long getAdet() { return adet; }
+    public void setAdet(long adet) { this.adet = adet; }
+}
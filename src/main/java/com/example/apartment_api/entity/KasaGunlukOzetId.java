@@ -0,0 +1,38 @@
+package com.example.apartment_api.entity;
+
+import com.example.apartment_api.enums.KasaDirection;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+public class KasaGunlukOzetId implements Serializable {
+
+    private UUID kasaid;
+    private LocalDate gun;
+    private KasaDirection direction;
+
+    public KasaGunlukOzetId() {
+    }
+
+    public KasaGunlukOzetId(UUID kasaid, LocalDate gun, KasaDirection direction) {
+        this.kasaid = kasaid;
+        this.gun = gun;
+        this.direction = direction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof KasaGunlukOzetId other)) return false;
+        return Objects.equals(kasaid, other.kasaid)
+                && Objects.equals(gun, other.gun)
+                && direction == other.direction;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kasaid, gun, direction);
+    }
+}
@@ -12,7 +12,7 @@ import java.util.UUID;
 public class KasaHareket {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     private LocalDateTime createdate;
@@ -0,0 +1,93 @@
+package com.example.apartment_api.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+// her ay belirli günde dairelere tahakkuk edilen ücret tanımı (aidat vb.)
+@Entity
+@Table(name = "tekrarlayan_ucret")
+public class TekrarlayanUcret {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    private LocalDateTime createdate;
+    private LocalDateTime updatedate;
+    private LocalDateTime enddate;
+
+    @Column(name = "delete")
+    private Boolean deleted = false;
+
+    @Column(nullable = false)
+    private UUID ucrettypeid;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    // ayın kaçında (1-28)
+    @Column(nullable = false)
+    private Integer gun;
+
+    @Column(nullable = false)
+    private LocalDate baslangicDonem;
+
+    // en son üretilen dönem; üretici buradan devam eder
+    private LocalDate sonDonem;
+
+    @Column(nullable = false)
+    private Boolean tumDaireler = true;
+
+    @ElementCollection
+    @CollectionTable(name = "tekrarlayan_ucret_daire", joinColumns = @JoinColumn(name = "tekrarlayan_ucret_id"))
+    @Column(name = "daireid")
+    private Set<UUID> daireler = new HashSet<>();
+
+    private String description;
+
+    // getter & setter
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public LocalDateTime getCreatedate() { return createdate; }
+    public void setCreatedate(LocalDateTime createdate) { this.createdate = createdate; }
+
+    public LocalDateTime getUpdatedate() { return updatedate; }
+    public void setUpdatedate(LocalDateTime updatedate) { this.updatedate = updatedate; }
+
+    public LocalDateTime getEnddate() { return enddate; }
+    public void setEnddate(LocalDateTime enddate) { this.enddate = enddate; }
+
+    public Boolean getDeleted() { return deleted; }
+    public void setDeleted(Boolean deleted) { this.deleted = deleted; }
+
+    public UUID getUcrettypeid() { return ucrettypeid; }
+    public void setUcrettypeid(UUID ucrettypeid) { this.ucrettypeid = ucrettypeid; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public Integer getGun() { return gun; }
+    public void setGun(Integer gun) { this.gun = gun; }
+
+    public LocalDate getBaslangicDonem() { return baslangicDonem; }
+    public void setBaslangicDonem(LocalDate baslangicDonem) { this.baslangicDonem = baslangicDonem; }
+
+    public LocalDate getSonDonem() { return sonDonem; }
+    public void setSonDonem(LocalDate sonDonem) { this.sonDonem = sonDonem; }
+
+    public Boolean getTumDaireler() { return tumDaireler; }
+    public void setTumDaireler(Boolean tumDaireler) { this.tumDaireler = tumDaireler; }
+
+    public Set<UUID> getDaireler() { return daireler; }
+    public void setDaireler(Set<UUID> daireler) { this.daireler = daireler; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
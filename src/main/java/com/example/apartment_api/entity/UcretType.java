@@ -9,7 +9,7 @@ import java.util.UUID;
 public class UcretType {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     private LocalDateTime createdate;
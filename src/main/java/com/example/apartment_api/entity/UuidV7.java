@@ -0,0 +1,17 @@
+package com.example.apartment_api.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// @GeneratedValue (rastgele UUIDv4) yerine zaman sıralı UUIDv7 id: yeni satırlar PK B-tree'sinin sağ ucuna eklenir
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,48 @@
+package com.example.apartment_api.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// RFC 9562 UUIDv7: 48 bit unix ms + 12 bit sayaç (rand_a, aynı ms içinde monoton) + 62 bit rastgele.
+// Id bellekte üretilir (sequence / DB round-trip yok), bu yüzden hibernate.jdbc.batch_size toplu insert'i bozulmaz.
+// JDBC ile yazan yerler (import, tahakkuk üreticisi) next()'i doğrudan kullanır.
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    // (ms << 12) | sayaç; saat geri gitse ya da sayaç taşsa bile değer hep artar
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long prev;
+        long value;
+        do {
+            prev = LAST.get();
+            value = Math.max(now, prev + 1);
+        } while (!LAST.compareAndSet(prev, value));
+
+        long millis = value >>> 12;
+        long counter = value & 0xFFF;
+
+        long msb = (millis << 16) | 0x7000L | counter;
+        // id gizli değil; SecureRandom yerine ThreadLocalRandom (kilitsiz)
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
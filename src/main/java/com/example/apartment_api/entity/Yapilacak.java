@@ -11,7 +11,7 @@ import java.util.UUID;
 public class Yapilacak {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     private LocalDateTime createdate;
@@ -0,0 +1,15 @@
+package com.example.apartment_api.enums;
+
+// kasa_hareket bütünlük taramasının bulduğu sorunlar
+public enum ButunlukSorunTipi {
+
+    KASA_YOK,            // aktif hareketin kasası yok
+    KASA_SILINMIS,       // aktif hareketin kasası soft-delete edilmiş
+    DAIRE_YOK,
+    DAIRE_SILINMIS,
+    UCRETTYPE_YOK,
+    UCRETTYPE_SILINMIS,
+    TUTAR_GECERSIZ,      // amount null veya <= 0
+    ENDDATE_YOK,         // silinmiş hareketin enddate'i boş
+    ID_TEKRAR            // aynı id birden fazla kasada (PK (kasaid, id), id tek başına tekil değil)
+}
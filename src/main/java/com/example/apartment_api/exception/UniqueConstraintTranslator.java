@@ -0,0 +1,47 @@
+package com.example.apartment_api.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.postgresql.util.PSQLException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Doğal anahtar tekilliği partial unique index'lerle (where delete = false) DB'de sağlanır.
+// Yazım tek statement olarak denenir; ihlal edilen index adı bilinen bir mesaja karşılık geliyorsa
+// BusinessException'a çevrilir, değilse hata olduğu gibi yükselir.
+// write içinde saveAndFlush kullanılmalı: ihlal commit'te değil bu try içinde yakalanmalı.
+public final class UniqueConstraintTranslator {
+
+    private UniqueConstraintTranslator() {
+    }
+
+    public static <T> T translate(Map<String, String> messages, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            String message = messages.get(constraintName(e));
+            if (message == null) {
+                throw e;
+            }
+            throw new BusinessException(message);
+        }
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    private static String constraintName(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+                return cve.getConstraintName();
+            }
+            if (t instanceof PSQLException pe && pe.getServerErrorMessage() != null
+                    && pe.getServerErrorMessage().getConstraint() != null) {
+                return pe.getServerErrorMessage().getConstraint();
+            }
+        }
+        return "";
+    }
+}
@@ -1,19 +1,36 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.dto.AppRoleResponseDto;
 import com.example.apartment_api.entity.AppRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AppRoleRepository extends JpaRepository<AppRole, UUID> {
 
-    List<AppRole> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.AppRoleResponseDto(r.id, r.code, r.aciklama)
+    from AppRole r
+    where r.deleted = false
+""")
+    List<AppRoleResponseDto> findActiveResponses();
 
     Optional<AppRole> findByIdAndDeletedFalse(UUID id);
 
-    boolean existsByCodeAndDeletedFalse(String code);
+    boolean existsByIdAndDeletedFalse(UUID id);
 
-    boolean existsByCodeAndDeletedFalseAndIdNot(String code, UUID id);
+    @Modifying
+    @Query("update AppRole e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update AppRole e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
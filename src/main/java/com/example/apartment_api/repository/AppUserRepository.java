@@ -1,19 +1,36 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.dto.AppUserResponseDto;
 import com.example.apartment_api.entity.AppUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AppUserRepository extends JpaRepository<AppUser, UUID> {
 
-    List<AppUser> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.AppUserResponseDto(u.id, u.username, c.id, r.id)
+    from AppUser u
+    left join u.customer c
+    left join u.role r
+    where u.deleted = false
+""")
+    List<AppUserResponseDto> findActiveResponses();
 
     Optional<AppUser> findByIdAndDeletedFalse(UUID id);
 
-    boolean existsByUsernameAndDeletedFalse(String username);
+    @Modifying
+    @Query("update AppUser e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
 
-    boolean existsByUsernameAndDeletedFalseAndIdNot(String username, UUID id);
+    @Modifying
+    @Query("update AppUser e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
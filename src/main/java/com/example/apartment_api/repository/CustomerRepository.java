@@ -1,23 +1,34 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.dto.CustomerResponseDto;
 import com.example.apartment_api.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
 
-    List<Customer> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.CustomerResponseDto(c.id, c.name, c.surname, c.tel, c.email)
+    from Customer c
+    where c.deleted = false
+""")
+    List<CustomerResponseDto> findActiveResponses();
 
     Optional<Customer> findByIdAndDeletedFalse(UUID id);
 
-    boolean existsByTelAndDeletedFalse(String tel);
+    @Modifying
+    @Query("update Customer e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
 
-    boolean existsByEmailAndDeletedFalse(String email);
-
-    boolean existsByTelAndDeletedFalseAndIdNot(String tel, UUID id);
-
-    boolean existsByEmailAndDeletedFalseAndIdNot(String email, UUID id);
+    @Modifying
+    @Query("update Customer e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
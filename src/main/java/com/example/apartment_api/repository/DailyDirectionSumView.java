@@ -1,9 +1,13 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.enums.KasaDirection;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
-public interface DailySumView {
+public interface DailyDirectionSumView {
     LocalDate getDay();
+    KasaDirection getDirection();
     BigDecimal getTotal();
+    long getCount();
 }
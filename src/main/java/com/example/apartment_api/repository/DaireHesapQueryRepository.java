@@ -0,0 +1,134 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.dto.DaireBorcResponseDto;
+import com.example.apartment_api.dto.DaireEkstreSatirDto;
+import com.example.apartment_api.dto.DaireUcretTypeOzetDto;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// daire hesabı: tahakkuklar (daire_tahakkuk, borç) ile daireye bağlı kasa hareketleri
+// (IN = ödeme / alacak, OUT = iade / borç) birlikte okunur.
+// Hareketler kasa_hareket_tum'dan (V8): arşivlenmiş yılların ödemeleri de, tahakkukları gibi, hesapta kalır
+@Repository
+public class DaireHesapQueryRepository {
+
+    // yürüyen bakiye veritabanında window function ile hesaplanır
+    private static final String EKSTRE_SQL = """
+            select t.tarih, t.kaynak, t.id, t.ucrettypeid, t.description, t.borc, t.alacak,
+                   sum(t.borc - t.alacak) over (order by t.tarih, t.id) as bakiye
+            from (
+                select cast(dt.donem as timestamp) as tarih, 'TAHAKKUK' as kaynak, dt.id, dt.ucrettypeid,
+                       dt.description, dt.amount as borc, cast(0 as numeric) as alacak
+                from daire_tahakkuk dt
+                where dt.daireid = :daireid
+                  and dt.delete = false
+                union all
+                select h.createdate, case when h.direction = 'IN' then 'ODEME' else 'IADE' end, h.id, h.ucrettypeid,
+                       h.description,
+                       case when h.direction = 'OUT' then h.amount else 0 end,
+                       case when h.direction = 'IN' then h.amount else 0 end
+                from kasa_hareket_tum h
+                where h.daireid = :daireid
+                  and h.delete = false
+            ) t
+            order by t.tarih, t.id
+            """;
+
+    // bütün bina tek sorguda: (daireid, ucrettypeid) bazında iki taraf ayrı gruplanıp birleştirilir.
+    // hareketi olmayan daire de bir satır (ucrettypeid/borc null) ile gelir
+    private static final String BORC_RAPORU_SQL = """
+            select d.id as daireid, d.daireno, x.ucrettypeid, x.borc, x.alacak
+            from daireler d
+            left join (
+                select u.daireid, u.ucrettypeid, sum(u.borc) as borc, sum(u.alacak) as alacak
+                from (
+                    select dt.daireid, dt.ucrettypeid, sum(dt.amount) as borc, cast(0 as numeric) as alacak
+                    from daire_tahakkuk dt
+                    where dt.delete = false
+                    group by dt.daireid, dt.ucrettypeid
+                    union all
+                    select h.daireid, h.ucrettypeid,
+                           coalesce(sum(h.amount) filter (where h.direction = 'OUT'), 0),
+                           coalesce(sum(h.amount) filter (where h.direction = 'IN'), 0)
+                    from kasa_hareket_tum h
+                    where h.delete = false
+                      and h.daireid is not null
+                    group by h.daireid, h.ucrettypeid
+                ) u
+                group by u.daireid, u.ucrettypeid
+            ) x on x.daireid = d.id
+            where d.delete = false
+            order by d.daireno, x.ucrettypeid
+            """;
+
+    private static final RowMapper<DaireEkstreSatirDto> EKSTRE_ROW_MAPPER = (rs, rowNum) -> {
+        DaireEkstreSatirDto dto = new DaireEkstreSatirDto();
+        Timestamp tarih = rs.getTimestamp("tarih");
+        dto.setTarih(tarih != null ? tarih.toLocalDateTime() : null);
+        dto.setKaynak(rs.getString("kaynak"));
+        dto.setId(rs.getObject("id", UUID.class));
+        dto.setUcrettypeid(rs.getObject("ucrettypeid", UUID.class));
+        dto.setDescription(rs.getString("description"));
+        dto.setBorc(rs.getBigDecimal("borc"));
+        dto.setAlacak(rs.getBigDecimal("alacak"));
+        dto.setBakiye(rs.getBigDecimal("bakiye"));
+        return dto;
+    };
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public DaireHesapQueryRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Timed(value = "daire.hesap.query", extraTags = {"method", "ekstre"})
+    public List<DaireEkstreSatirDto> findEkstre(UUID daireid) {
+        return jdbc.query(EKSTRE_SQL, new MapSqlParameterSource("daireid", daireid), EKSTRE_ROW_MAPPER);
+    }
+
+    @Timed(value = "daire.hesap.query", extraTags = {"method", "borcRaporu"})
+    public List<DaireBorcResponseDto> findBorcRaporu() {
+        Map<UUID, DaireBorcResponseDto> result = new LinkedHashMap<>();
+
+        jdbc.query(BORC_RAPORU_SQL, rs -> {
+            UUID daireid = rs.getObject("daireid", UUID.class);
+            DaireBorcResponseDto daire = result.computeIfAbsent(daireid, id -> {
+                DaireBorcResponseDto dto = new DaireBorcResponseDto();
+                dto.setDaireid(id);
+                dto.setUcretTypes(new ArrayList<>());
+                return dto;
+            });
+            daire.setDaireno(rs.getString("daireno"));
+
+            BigDecimal borc = rs.getBigDecimal("borc");
+            if (borc == null) {
+                return; // hesabı boş daire
+            }
+            BigDecimal alacak = rs.getBigDecimal("alacak");
+
+            DaireUcretTypeOzetDto ozet = new DaireUcretTypeOzetDto();
+            ozet.setUcrettypeid(rs.getObject("ucrettypeid", UUID.class));
+            ozet.setBorc(borc);
+            ozet.setAlacak(alacak);
+            ozet.setBakiye(borc.subtract(alacak));
+            daire.getUcretTypes().add(ozet);
+
+            daire.setBorc(daire.getBorc().add(borc));
+            daire.setAlacak(daire.getAlacak().add(alacak));
+            daire.setBakiye(daire.getBakiye().add(ozet.getBakiye()));
+        });
+
+        return new ArrayList<>(result.values());
+    }
+}
@@ -1,21 +1,50 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.dto.DaireResponseDto;
 import com.example.apartment_api.entity.Daire;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface DaireRepository extends JpaRepository<Daire, UUID> {
 
-    List<Daire> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.DaireResponseDto(d.id, usr.id, d.daireno)
+    from Daire d
+    left join d.user usr
+    where d.deleted = false
+""")
+    List<DaireResponseDto> findActiveResponses();
 
-    Optional<Daire> findByIdAndDeletedFalse(UUID id);
+    @Query("select d.id from Daire d where d.deleted = false")
+    List<UUID> findActiveIds();
 
-    boolean existsByDairenoAndDeletedFalse(String daireno);
+    // silinmişler dahil: eski hareketler sonradan silinen kayda bağlı olabilir
+    @Query("select d.id as id, d.daireno as kod from Daire d")
+    List<IdKodView> findAllKodlar();
 
-    boolean existsByDairenoAndDeletedFalseAndIdNot(String daireno, UUID id);
+    Optional<Daire> findByIdAndDeletedFalse(UUID id);
 
-    List<Daire> findByUserIdAndDeletedFalse(UUID userid);
+    @Query("""
+    select new com.example.apartment_api.dto.DaireResponseDto(d.id, d.user.id, d.daireno)
+    from Daire d
+    where d.user.id = :userid
+      and d.deleted = false
+""")
+    List<DaireResponseDto> findActiveResponsesByUserId(@Param("userid") UUID userid);
+
+    @Modifying
+    @Query("update Daire e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Daire e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
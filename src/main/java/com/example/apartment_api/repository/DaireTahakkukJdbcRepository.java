@@ -0,0 +1,66 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.entity.UuidV7Generator;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+// toplu tahakkuk yazımı (tekrarlayan ücret üreticisi)
+@Repository
+public class DaireTahakkukJdbcRepository {
+
+    // tek statement: id / daire dizileri unnest edilir, var olan (daire, ücret tipi, dönem) atlanır.
+    // dönen sayı gerçekten yazılan satır sayısıdır
+    private static final String INSERT_MISSING_SQL = """
+            insert into daire_tahakkuk (id, createdate, delete, daireid, ucrettypeid, donem, amount, description)
+            select t.id, cast(? as timestamp), false, t.daireid, cast(? as uuid), cast(? as date),
+                   cast(? as numeric), cast(? as varchar)
+            from unnest(cast(? as uuid[]), cast(? as uuid[])) as t(id, daireid)
+            on conflict (daireid, ucrettypeid, donem) where delete = false do nothing
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DaireTahakkukJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Timed(value = "tahakkuk.uretim.query", extraTags = {"method", "insertMissing"})
+    public int insertMissing(Collection<UUID> daireids,
+                             UUID ucrettypeid,
+                             LocalDate donem,
+                             BigDecimal amount,
+                             String description,
+                             LocalDateTime now) {
+        if (daireids.isEmpty()) {
+            return 0;
+        }
+
+        UUID[] ids = new UUID[daireids.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UuidV7Generator.next();
+        }
+        UUID[] daireArray = daireids.toArray(new UUID[0]);
+
+        return jdbcTemplate.update(INSERT_MISSING_SQL, ps -> {
+            Array idArray = ps.getConnection().createArrayOf("uuid", ids);
+            Array daireidArray = ps.getConnection().createArrayOf("uuid", daireArray);
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setObject(2, ucrettypeid);
+            ps.setDate(3, Date.valueOf(donem));
+            ps.setBigDecimal(4, amount);
+            ps.setString(5, description);
+            ps.setArray(6, idArray);
+            ps.setArray(7, daireidArray);
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.dto.DaireTahakkukResponseDto;
+import com.example.apartment_api.entity.DaireTahakkuk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DaireTahakkukRepository extends JpaRepository<DaireTahakkuk, UUID> {
+
+    Optional<DaireTahakkuk> findByIdAndDeletedFalse(UUID id);
+
+    @Query("""
+    select new com.example.apartment_api.dto.DaireTahakkukResponseDto(
+           t.id, t.daireid, t.ucrettypeid, t.donem, t.amount, t.description, t.createdate)
+    from DaireTahakkuk t
+    where t.daireid = :daireid
+      and t.deleted = false
+    order by t.donem
+""")
+    List<DaireTahakkukResponseDto> findResponsesByDaireid(@Param("daireid") UUID daireid);
+
+    @Modifying
+    @Query("update DaireTahakkuk e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update DaireTahakkuk e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+}
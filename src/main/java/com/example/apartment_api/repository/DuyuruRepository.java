@@ -1,19 +1,43 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.dto.DuyuruResponseDto;
 import com.example.apartment_api.entity.Duyuru;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface DuyuruRepository extends JpaRepository<Duyuru, UUID> {
 
-    List<Duyuru> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.DuyuruResponseDto(d.id, d.type, d.aciklama, d.expiredate)
+    from Duyuru d
+    where d.deleted = false
+""")
+    List<DuyuruResponseDto> findActiveResponses();
 
     Optional<Duyuru> findByIdAndDeletedFalse(UUID id);
 
     // süresi geçmemiş duyurular
-    List<Duyuru> findByDeletedFalseAndExpiredateAfter(LocalDateTime now);
+    @Query("""
+    select new com.example.apartment_api.dto.DuyuruResponseDto(d.id, d.type, d.aciklama, d.expiredate)
+    from Duyuru d
+    where d.deleted = false
+      and d.expiredate > :now
+""")
+    List<DuyuruResponseDto> findActiveResponsesExpiringAfter(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Duyuru e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Duyuru e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,9 @@
+package com.example.apartment_api.repository;
+
+import java.util.UUID;
+
+// referans tablolarından id -> görünen kod (daireno, ücret tipi kodu)
+public interface IdKodView {
+    UUID getId();
+    String getKod();
+}
@@ -0,0 +1,98 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.entity.KasaBakiye;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface KasaBakiyeRepository extends JpaRepository<KasaBakiye, UUID> {
+
+    // satır yoksa sıfır bakiye ile açar (kilitlemeden önce satırın var olduğunu garanti eder)
+    @Modifying
+    @Query(value = """
+    insert into kasa_bakiye (kasaid, total_in, total_out, in_count, out_count, updatedate)
+    values (:kasaid, 0, 0, 0, 0, now())
+    on conflict (kasaid) do nothing
+""", nativeQuery = true)
+    void ensureExists(@Param("kasaid") UUID kasaid);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from KasaBakiye b where b.kasaid = :kasaid")
+    Optional<KasaBakiye> findByKasaidForUpdate(@Param("kasaid") UUID kasaid);
+
+    // yeni hareket(ler)in etkisini ekler; satır yoksa oluşturur
+    @Modifying
+    @Query(value = """
+    insert into kasa_bakiye (kasaid, total_in, total_out, in_count, out_count, last_transaction_date, updatedate)
+    values (:kasaid, :inAmount, :outAmount, :inCount, :outCount, :lastDate, now())
+    on conflict (kasaid) do update set
+        total_in = kasa_bakiye.total_in + excluded.total_in,
+        total_out = kasa_bakiye.total_out + excluded.total_out,
+        in_count = kasa_bakiye.in_count + excluded.in_count,
+        out_count = kasa_bakiye.out_count + excluded.out_count,
+        last_transaction_date = greatest(kasa_bakiye.last_transaction_date, excluded.last_transaction_date),
+        updatedate = now()
+""", nativeQuery = true)
+    void applyPosting(@Param("kasaid") UUID kasaid,
+                      @Param("inAmount") BigDecimal inAmount,
+                      @Param("outAmount") BigDecimal outAmount,
+                      @Param("inCount") long inCount,
+                      @Param("outCount") long outCount,
+                      @Param("lastDate") LocalDateTime lastDate);
+
+    // soft-delete edilen hareket(ler)in etkisini geri alır
+    @Modifying
+    @Query("""
+    update KasaBakiye b
+    set b.totalIn = b.totalIn - :inAmount,
+        b.totalOut = b.totalOut - :outAmount,
+        b.inCount = b.inCount - :inCount,
+        b.outCount = b.outCount - :outCount,
+        b.updatedate = CURRENT_TIMESTAMP
+    where b.kasaid = :kasaid
+""")
+    int revertPosting(@Param("kasaid") UUID kasaid,
+                      @Param("inAmount") BigDecimal inAmount,
+                      @Param("outAmount") BigDecimal outAmount,
+                      @Param("inCount") long inCount,
+                      @Param("outCount") long outCount);
+
+    @Modifying
+    @Query(value = """
+    update kasa_bakiye
+    set last_transaction_date = (
+            select max(h.createdate)
+            from kasa_hareket h
+            where h.kasaid = :kasaid
+              and h.delete = false),
+        updatedate = now()
+    where kasaid = :kasaid
+""", nativeQuery = true)
+    void refreshLastTransactionDate(@Param("kasaid") UUID kasaid);
+
+    // yıllar arası karşılaştırma: her aktif kasa (= yıl) için tek satır, tek sorgu
+    @Query("""
+    select k.id as kasaid,
+           k.years as years,
+           b.totalIn as totalIn,
+           b.totalOut as totalOut,
+           b.inCount as inCount,
+           b.outCount as outCount,
+           b.lastTransactionDate as lastTransactionDate,
+           k.arsivdate as arsivdate
+    from Kasa k
+    left join KasaBakiye b on b.kasaid = k.id
+    where k.deleted = false
+    order by k.years
+""")
+    List<KasaYilOzetView> yearComparison();
+}
@@ -0,0 +1,13 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.enums.KasaDirection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface KasaDirectionTotalsView {
+    KasaDirection getDirection();
+    BigDecimal getTotal();
+    long getCount();
+    LocalDateTime getLastDate();
+}
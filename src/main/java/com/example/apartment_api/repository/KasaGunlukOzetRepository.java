@@ -0,0 +1,98 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.entity.KasaGunlukOzet;
+import com.example.apartment_api.entity.KasaGunlukOzetId;
+import com.example.apartment_api.enums.KasaDirection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface KasaGunlukOzetRepository extends JpaRepository<KasaGunlukOzet, KasaGunlukOzetId> {
+
+    @Modifying
+    @Query(value = """
+    insert into kasa_gunluk_ozet (kasaid, gun, direction, toplam, adet)
+    values (:kasaid, :gun, :direction, :amount, :count)
+    on conflict (kasaid, gun, direction) do update set
+        toplam = kasa_gunluk_ozet.toplam + excluded.toplam,
+        adet = kasa_gunluk_ozet.adet + excluded.adet
+""", nativeQuery = true)
+    void applyPosting(@Param("kasaid") UUID kasaid,
+                      @Param("gun") LocalDate gun,
+                      @Param("direction") String direction,
+                      @Param("amount") BigDecimal amount,
+                      @Param("count") long count);
+
+    @Modifying
+    @Query("""
+    update KasaGunlukOzet o
+    set o.toplam = o.toplam - :amount,
+        o.adet = o.adet - :count
+    where o.kasaid = :kasaid
+      and o.gun = :gun
+      and o.direction = :direction
+""")
+    int revertPosting(@Param("kasaid") UUID kasaid,
+                      @Param("gun") LocalDate gun,
+                      @Param("direction") KasaDirection direction,
+                      @Param("amount") BigDecimal amount,
+                      @Param("count") long count);
+
+    @Query("""
+    select o.gun as day,
+           o.direction as direction,
+           o.toplam as total,
+           o.adet as count
+    from KasaGunlukOzet o
+    where o.kasaid = :kasaid
+      and o.gun >= :start
+      and o.gun < :end
+      and o.adet > 0
+    order by o.gun
+""")
+    List<DailyDirectionSumView> dailyTotals(@Param("kasaid") UUID kasaid,
+                                            @Param("start") LocalDate start,
+                                            @Param("end") LocalDate end);
+
+    // yıllık rapor: günlük özet satırları ay bazında toplanır (en fazla 12 x 2 satır)
+    @Query("""
+    select extract(month from o.gun) as month,
+           o.direction as direction,
+           sum(o.toplam) as total,
+           sum(o.adet) as count
+    from KasaGunlukOzet o
+    where o.kasaid = :kasaid
+      and o.gun >= :start
+      and o.gun < :end
+      and o.adet > 0
+    group by extract(month from o.gun), o.direction
+    order by extract(month from o.gun)
+""")
+    List<MonthlyDirectionSumView> monthlyTotals(@Param("kasaid") UUID kasaid,
+                                                @Param("start") LocalDate start,
+                                                @Param("end") LocalDate end);
+
+    // ============
+    // rebuild (backfill)
+    // ============
+    @Modifying
+    @Query(value = "delete from kasa_gunluk_ozet where kasaid = :kasaid", nativeQuery = true)
+    int deleteByKasaid(@Param("kasaid") UUID kasaid);
+
+    @Modifying
+    @Query(value = """
+    insert into kasa_gunluk_ozet (kasaid, gun, direction, toplam, adet)
+    select h.kasaid, cast(h.createdate as date), h.direction, sum(h.amount), count(*)
+    from kasa_hareket h
+    where h.kasaid = :kasaid
+      and h.delete = false
+    group by h.kasaid, cast(h.createdate as date), h.direction
+""", nativeQuery = true)
+    int rebuild(@Param("kasaid") UUID kasaid);
+}
@@ -0,0 +1,53 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.enums.KasaDirection;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// kasa_hareket yazımları (JPA dışı)
+@Repository
+public class KasaHareketJdbcRepository {
+
+    // tek statement: silinen satırların özet alanları aynı round-trip'te döner, entity yüklenmez.
+    // kasaid bilinmediği için tüm partition'lar id index'inden taranır. id tekilliği varsayılır
+    // (DB'de zorlanmaz, bütünlük taraması ID_TEKRAR olarak raporlar)
+    private static final String SOFT_DELETE_SQL = """
+            update kasa_hareket
+            set delete = true, enddate = :now
+            where id in (:ids) and delete = false
+            returning id, kasaid, direction, amount, createdate
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public KasaHareketJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    // çağıranın transaction'ında çalışmalı (özetler aynı commit'te geri alınır)
+    @Timed(value = "kasa.hareket.query", extraTags = {"method", "softDelete"})
+    public List<SilinenHareketRow> softDelete(Collection<UUID> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", Timestamp.valueOf(now));
+
+        return jdbc.query(SOFT_DELETE_SQL, params, (rs, rowNum) -> new SilinenHareketRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("kasaid", UUID.class),
+                KasaDirection.valueOf(rs.getString("direction")),
+                rs.getBigDecimal("amount"),
+                rs.getTimestamp("createdate").toLocalDateTime()));
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.dto.KasaHareketFilterDto;
+import com.example.apartment_api.dto.KasaHareketResponseDto;
+import com.example.apartment_api.enums.KasaDirection;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// filtreli / keyset sayfalı / cursor'lu kasa hareket okumaları; entity hydrate etmeden doğrudan DTO üretir
+@Repository
+public class KasaHareketQueryRepository {
+
+    private static final String COLUMNS = """
+            select h.id, h.kasaid, h.daireid, h.ucrettypeid, h.amount, h.direction, h.description, h.createdate
+            from kasa_hareket h
+            """;
+
+    private static final RowMapper<KasaHareketResponseDto> ROW_MAPPER = (rs, rowNum) -> {
+        KasaHareketResponseDto dto = new KasaHareketResponseDto();
+        dto.setId(rs.getObject("id", UUID.class));
+        dto.setKasaid(rs.getObject("kasaid", UUID.class));
+        dto.setDaireid(rs.getObject("daireid", UUID.class));
+        dto.setUcrettypeid(rs.getObject("ucrettypeid", UUID.class));
+        dto.setAmount(rs.getBigDecimal("amount"));
+        dto.setDirection(KasaDirection.valueOf(rs.getString("direction")));
+        dto.setDescription(rs.getString("description"));
+        Timestamp createdate = rs.getTimestamp("createdate");
+        dto.setCreatedate(createdate != null ? createdate.toLocalDateTime() : null);
+        return dto;
+    };
+
+    private static final RowMapper<KasaHareketScanRow> SCAN_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp enddate = rs.getTimestamp("enddate");
+        return new KasaHareketScanRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("kasaid", UUID.class),
+                rs.getObject("daireid", UUID.class),
+                rs.getObject("ucrettypeid", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getBoolean("delete"),
+                enddate != null ? enddate.toLocalDateTime() : null);
+    };
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    // stream için ayrı template: fetch size ile PostgreSQL sunucu tarafı cursor kullanır
+    // (yalnızca transaction içinde, autocommit kapalıyken devreye girer)
+    private final NamedParameterJdbcTemplate cursorJdbc;
+
+    public KasaHareketQueryRepository(DataSource dataSource,
+                                      @Value("${kasa.stream.fetch-size:500}") int fetchSize) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+        JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(fetchSize);
+        this.cursorJdbc = new NamedParameterJdbcTemplate(cursorTemplate);
+    }
+
+    // (createdate, id) sırasıyla afterDate/afterId'den sonraki en fazla limit kayıt
+    @Timed(value = "kasa.hareket.query", extraTags = {"method", "findPage"})
+    public List<KasaHareketResponseDto> findPage(UUID kasaid,
+                                                 KasaHareketFilterDto filter,
+                                                 LocalDateTime afterDate,
+                                                 UUID afterId,
+                                                 int limit) {
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(COLUMNS);
+        appendWhere(sql, params, kasaid, filter);
+
+        if (afterDate != null && afterId != null) {
+            sql.append(" and (h.createdate, h.id) > (:afterDate, :afterId)");
+            params.addValue("afterDate", afterDate);
+            params.addValue("afterId", afterId);
+        }
+
+        sql.append(" order by h.createdate, h.id limit :limit");
+        params.addValue("limit", limit);
+
+        return jdbc.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    // tüm eşleşen kayıtları cursor üzerinden tek tek verir; bellek kullanımı fetch size ile sınırlı
+    @Timed(value = "kasa.hareket.query", extraTags = {"method", "forEach"})
+    public void forEach(UUID kasaid, KasaHareketFilterDto filter, Consumer<KasaHareketResponseDto> consumer) {
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(COLUMNS);
+        appendWhere(sql, params, kasaid, filter);
+        sql.append(" order by h.createdate, h.id");
+
+        cursorJdbc.query(sql.toString(), params, rs -> {
+            consumer.accept(ROW_MAPPER.mapRow(rs, 0));
+        });
+    }
+
+    // bütünlük taraması: PK (kasaid, id) sırasıyla, silinmişler dahil tüm satırlar.
+    // her çağrı kendi kısa sorgusu; uzun transaction / snapshot tutulmaz
+    @Timed(value = "kasa.hareket.query", extraTags = {"method", "scanChunk"})
+    public List<KasaHareketScanRow> scanChunk(UUID afterKasaid, UUID afterId, int limit) {
+
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder sql = new StringBuilder("""
+                select h.id, h.kasaid, h.daireid, h.ucrettypeid, h.amount, h.delete, h.enddate
+                from kasa_hareket h
+                """);
+        if (afterKasaid != null && afterId != null) {
+            sql.append(" where (h.kasaid, h.id) > (:afterKasaid, :afterId)");
+            params.addValue("afterKasaid", afterKasaid);
+            params.addValue("afterId", afterId);
+        }
+        sql.append(" order by h.kasaid, h.id limit :limit");
+
+        return jdbc.query(sql.toString(), params, SCAN_ROW_MAPPER);
+    }
+
+    // PK (kasaid, id): partition'lı tabloda unique index partition anahtarını içermek zorunda, yani id tek başına
+    // DB'de tekil değil. id'ler uygulamada UUIDv7 üretilir; findById / softDelete(ids) gibi yalnız id'li
+    // yollar tekilliği varsayar, bu sorgu varsayımı doğrular
+    @Timed(value = "kasa.hareket.query", extraTags = {"method", "duplicateIds"})
+    public List<KasaHareketScanRow> findDuplicateIds(int limit) {
+        return jdbc.query("""
+                select h.id, h.kasaid, h.daireid, h.ucrettypeid, h.amount, h.delete, h.enddate
+                from kasa_hareket h
+                where h.id in (select d.id from kasa_hareket d group by d.id having count(*) > 1)
+                order by h.id, h.kasaid
+                limit :limit
+                """, new MapSqlParameterSource("limit", limit), SCAN_ROW_MAPPER);
+    }
+
+    private void appendWhere(StringBuilder sql, MapSqlParameterSource params,
+                             UUID kasaid, KasaHareketFilterDto filter) {
+
+        sql.append(" where h.kasaid = :kasaid and h.delete = false");
+        params.addValue("kasaid", kasaid);
+
+        if (filter == null) {
+            return;
+        }
+        if (filter.getDirection() != null) {
+            sql.append(" and h.direction = :direction");
+            params.addValue("direction", filter.getDirection().name());
+        }
+        if (filter.getDaireid() != null) {
+            sql.append(" and h.daireid = :daireid");
+            params.addValue("daireid", filter.getDaireid());
+        }
+        if (filter.getUcrettypeid() != null) {
+            sql.append(" and h.ucrettypeid = :ucrettypeid");
+            params.addValue("ucrettypeid", filter.getUcrettypeid());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(" and h.createdate >= :from");
+            params.addValue("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            sql.append(" and h.createdate < :to");
+            params.addValue("to", filter.getTo());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.apartment_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// bütünlük taraması için hafif satır (silinmişler dahil)
+public record KasaHareketScanRow(UUID id,
+                                 UUID kasaid,
+                                 UUID daireid,
+                                 UUID ucrettypeid,
+                                 BigDecimal amount,
+                                 boolean deleted,
+                                 LocalDateTime enddate) {
+}
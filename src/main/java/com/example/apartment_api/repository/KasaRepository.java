@@ -1,19 +1,76 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.dto.KasaResponseDto;
 import com.example.apartment_api.entity.Kasa;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface KasaRepository extends JpaRepository<Kasa, UUID> {
 
-    List<Kasa> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.KasaResponseDto(k.id, k.years)
+    from Kasa k
+    where k.deleted = false
+""")
+    List<KasaResponseDto> findActiveResponses();
 
     Optional<Kasa> findByIdAndDeletedFalse(UUID id);
 
-    boolean existsByYearsAndDeletedFalse(Integer years);
+    boolean existsByIdAndArsivdateIsNullAndDeletedFalse(UUID id);
 
-    boolean existsByYearsAndDeletedFalseAndIdNot(Integer years, UUID id);
+    @Query("select k.id from Kasa k where k.arsivdate is not null")
+    List<UUID> findArchivedIds();
+
+    // kasa_hareket için kasaya ait LIST partition'ı oluşturur (V4 migration'daki fonksiyon)
+    @Query(value = "select kasa_hareket_partition_olustur(:kasaid, :years)", nativeQuery = true)
+    String createHareketPartition(@Param("kasaid") UUID kasaid, @Param("years") Integer years);
+
+    @Query(value = "select kasa_hareket_partition_adi(:kasaid)", nativeQuery = true)
+    String findHareketPartitionName(@Param("kasaid") UUID kasaid);
+
+    // DETACH ... CONCURRENTLY yarıda kesildiyse partition pg_inherits'te "detach pending" kalır; bağlı değilse null
+    @Query(value = """
+    select i.inhdetachpending
+    from pg_inherits i
+    join pg_class c on c.oid = i.inhrelid
+    where i.inhparent = 'kasa_hareket'::regclass
+      and c.relname = :partition
+""", nativeQuery = true)
+    Boolean findHareketPartitionDetachPending(@Param("partition") String partition);
+
+    // kasanın ayrılmış arşiv tablosu var ama kasa_hareket_tum view'ına henüz eklenmemiş mi
+    @Query(value = """
+    select exists (
+        select 1
+        from pg_class t
+        where t.relkind = 'r'
+          and not t.relispartition
+          and t.relname like 'kasa_hareket_y%'
+          and right(t.relname, 32) = replace(cast(:kasaid as text), '-', '')
+          and not exists (
+              select 1
+              from pg_depend d
+              join pg_rewrite r on r.oid = d.objid
+              where r.ev_class = 'kasa_hareket_tum'::regclass
+                and d.refobjid = t.oid
+          )
+    )
+""", nativeQuery = true)
+    boolean existsArsivTablosuViewDisinda(@Param("kasaid") UUID kasaid);
+
+    @Modifying
+    @Query("update Kasa e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Kasa e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
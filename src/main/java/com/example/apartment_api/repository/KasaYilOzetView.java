@@ -0,0 +1,17 @@
+package com.example.apartment_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// kasa + kasa_bakiye (left join): hareketi olmayan kasada bakiye alanları null
+public interface KasaYilOzetView {
+    UUID getKasaid();
+    Integer getYears();
+    BigDecimal getTotalIn();
+    BigDecimal getTotalOut();
+    Long getInCount();
+    Long getOutCount();
+    LocalDateTime getLastTransactionDate();
+    LocalDateTime getArsivdate();
+}
@@ -0,0 +1,12 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.enums.KasaDirection;
+
+import java.math.BigDecimal;
+
+public interface MonthlyDirectionSumView {
+    int getMonth();
+    KasaDirection getDirection();
+    BigDecimal getTotal();
+    long getCount();
+}
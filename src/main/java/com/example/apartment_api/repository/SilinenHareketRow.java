@@ -0,0 +1,15 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.enums.KasaDirection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// soft-delete edilen hareketin özetlerden geri alınacak alanları (update ... returning)
+public record SilinenHareketRow(UUID id,
+                                UUID kasaid,
+                                KasaDirection direction,
+                                BigDecimal amount,
+                                LocalDateTime createdate) {
+}
@@ -0,0 +1,42 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.entity.TekrarlayanUcret;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TekrarlayanUcretRepository extends JpaRepository<TekrarlayanUcret, UUID> {
+
+    // daireler koleksiyonu aynı sorguda: tanım başına ek select yok
+    @EntityGraph(attributePaths = "daireler")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<TekrarlayanUcret> findByDeletedFalse();
+
+    Optional<TekrarlayanUcret> findByIdAndDeletedFalse(UUID id);
+
+    // üretici çalışırken tanımlar kilitli: zamanlanmış ve elle tetiklenen çalıştırma aynı dönemi iki kez işlemez
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TekrarlayanUcret t where t.deleted = false order by t.createdate")
+    List<TekrarlayanUcret> findActiveForUpdate();
+
+    @Modifying
+    @Query("update TekrarlayanUcret e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update TekrarlayanUcret e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+}
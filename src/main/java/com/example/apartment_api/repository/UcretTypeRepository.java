@@ -1,19 +1,41 @@
 package com.example.apartment_api.repository;
 
+import com.example.apartment_api.dto.UcretTypeResponseDto;
 import com.example.apartment_api.entity.UcretType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UcretTypeRepository extends JpaRepository<UcretType, UUID> {
 
-    List<UcretType> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.UcretTypeResponseDto(u.id, u.code, u.aciklama)
+    from UcretType u
+    where u.deleted = false
+""")
+    List<UcretTypeResponseDto> findActiveResponses();
+
+    @Query("select u.id from UcretType u where u.deleted = false")
+    List<UUID> findActiveIds();
+
+    // silinmişler dahil: eski hareketler sonradan silinen kayda bağlı olabilir
+    @Query("select u.id as id, u.code as kod from UcretType u")
+    List<IdKodView> findAllKodlar();
 
     Optional<UcretType> findByIdAndDeletedFalse(UUID id);
 
-    boolean existsByCodeAndDeletedFalse(String code);
+    @Modifying
+    @Query("update UcretType e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
 
-    boolean existsByCodeAndDeletedFalseAndIdNot(String code, UUID id);
+    @Modifying
+    @Query("update UcretType e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
@@ -1,27 +1,48 @@
 package com.example.apartment_api.repository;
 
 import com.example.apartment_api.dto.StatusCountResponseDto;
+import com.example.apartment_api.dto.YapilacakResponseDto;
 import com.example.apartment_api.entity.Yapilacak;
 import com.example.apartment_api.enums.YapilacakStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface YapilacakRepository extends JpaRepository<Yapilacak, UUID> {
 
-    List<Yapilacak> findByDeletedFalse();
+    @Query("""
+    select new com.example.apartment_api.dto.YapilacakResponseDto(y.id, y.type, y.aciklama, y.expiredate, y.status)
+    from Yapilacak y
+    where y.deleted = false
+""")
+    List<YapilacakResponseDto> findActiveResponses();
 
     Optional<Yapilacak> findByIdAndDeletedFalse(UUID id);
 
     // süresi geçmemiş yapılacaklar
-    List<Yapilacak> findByDeletedFalseAndExpiredateAfter(LocalDateTime now);
+    @Query("""
+    select new com.example.apartment_api.dto.YapilacakResponseDto(y.id, y.type, y.aciklama, y.expiredate, y.status)
+    from Yapilacak y
+    where y.deleted = false
+      and y.expiredate > :now
+""")
+    List<YapilacakResponseDto> findActiveResponsesExpiringAfter(@Param("now") LocalDateTime now);
 
     // status filtreli liste
-    List<Yapilacak> findByDeletedFalseAndStatus(YapilacakStatus status);
+    @Query("""
+    select new com.example.apartment_api.dto.YapilacakResponseDto(y.id, y.type, y.aciklama, y.expiredate, y.status)
+    from Yapilacak y
+    where y.deleted = false
+      and y.status = :status
+""")
+    List<YapilacakResponseDto> findActiveResponsesByStatus(@Param("status") YapilacakStatus status);
 
     @Query("""
     select new com.example.apartment_api.dto.StatusCountResponseDto(y.status, count(y))
@@ -39,4 +60,12 @@ public interface YapilacakRepository extends JpaRepository<Yapilacak, UUID> {
     group by y.status
 """)
     List<StatusCountResponseDto> countActiveByStatus();
+
+    @Modifying
+    @Query("update Yapilacak e set e.deleted = true, e.enddate = :now where e.id = :id and e.deleted = false")
+    int softDelete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Yapilacak e set e.deleted = true, e.enddate = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
@@ -1,76 +1,97 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.AppRoleRequestDto;
 import com.example.apartment_api.dto.AppRoleResponseDto;
 import com.example.apartment_api.entity.AppRole;
-import com.example.apartment_api.exception.BusinessException;
 import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.exception.UniqueConstraintTranslator;
 import com.example.apartment_api.repository.AppRoleRepository;
+import com.example.apartment_api.config.CacheConfig;
 import jakarta.validation.Valid;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class AppRoleService {
 
+    private static final Map<String, String> CREATE_CONSTRAINTS = Map.of("ux_approle_code", "Role code zaten kayıtlı");
+    private static final Map<String, String> UPDATE_CONSTRAINTS = Map.of("ux_approle_code", "Role code başka bir role ait");
+
     private final AppRoleRepository appRoleRepository;
 
     public AppRoleService(AppRoleRepository appRoleRepository) {
         this.appRoleRepository = appRoleRepository;
     }
 
+    @Cacheable(CacheConfig.APP_ROLES)
     public List<AppRoleResponseDto> getAllActive() {
-        return appRoleRepository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return appRoleRepository.findActiveResponses();
     }
 
+    @Cacheable(cacheNames = CacheConfig.APP_ROLE, key = "#id")
+    @Transactional(readOnly = true)
     public AppRoleResponseDto getById(UUID id) {
         AppRole role = getEntityById(id);
         return mapToResponse(role);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.APP_ROLES, CacheConfig.APP_ROLE, CacheConfig.APP_ROLE_ACTIVE}, allEntries = true)
     public AppRoleResponseDto create(@Valid AppRoleRequestDto dto) {
-        if (appRoleRepository.existsByCodeAndDeletedFalse(dto.getCode())) {
-            throw new BusinessException("Role code zaten kayıtlı");
-        }
-
         AppRole role = new AppRole();
         role.setCode(dto.getCode());
         role.setAciklama(dto.getAciklama());
         role.setCreatedate(LocalDateTime.now());
         role.setDeleted(false);
 
-        AppRole saved = appRoleRepository.save(role);
+        AppRole saved = UniqueConstraintTranslator.translate(CREATE_CONSTRAINTS,
+                () -> appRoleRepository.saveAndFlush(role));
         return mapToResponse(saved);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.APP_ROLES, CacheConfig.APP_ROLE, CacheConfig.APP_ROLE_ACTIVE}, allEntries = true)
     public AppRoleResponseDto update(UUID id, @Valid AppRoleRequestDto dto) {
         AppRole role = getEntityById(id);
 
-        if (appRoleRepository.existsByCodeAndDeletedFalseAndIdNot(dto.getCode(), id)) {
-            throw new BusinessException("Role code başka bir role ait");
-        }
-
         role.setCode(dto.getCode());
         role.setAciklama(dto.getAciklama());
         role.setUpdatedate(LocalDateTime.now());
 
-        AppRole updated = appRoleRepository.save(role);
+        AppRole updated = UniqueConstraintTranslator.translate(UPDATE_CONSTRAINTS,
+                () -> appRoleRepository.saveAndFlush(role));
         return mapToResponse(updated);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.APP_ROLES, CacheConfig.APP_ROLE, CacheConfig.APP_ROLE_ACTIVE}, allEntries = true)
+    @Transactional
     public void delete(UUID id) {
-        AppRole role = getEntityById(id);
+        if (appRoleRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Role not found");
+        }
+    }
 
-        role.setDeleted(true);
-        role.setEnddate(LocalDateTime.now());
+    // BULK DELETE (soft)
+    @CacheEvict(cacheNames = {CacheConfig.APP_ROLES, CacheConfig.APP_ROLE, CacheConfig.APP_ROLE_ACTIVE}, allEntries = true)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = appRoleRepository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
+    }
 
-        appRoleRepository.save(role);
+    // kullanıcı kaydındaki roleId doğrulaması cache üzerinden
+    @Cacheable(cacheNames = CacheConfig.APP_ROLE_ACTIVE, key = "#id")
+    public boolean existsActive(UUID id) {
+        return appRoleRepository.existsByIdAndDeletedFalse(id);
     }
 
     private AppRole getEntityById(UUID id) {
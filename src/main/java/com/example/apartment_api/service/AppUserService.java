@@ -1,5 +1,6 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.AppUserRequestDto;
 import com.example.apartment_api.dto.AppUserResponseDto;
 import com.example.apartment_api.entity.AppRole;
@@ -7,40 +8,49 @@ import com.example.apartment_api.entity.AppUser;
 import com.example.apartment_api.entity.Customer;
 import com.example.apartment_api.exception.BusinessException;
 import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.exception.UniqueConstraintTranslator;
 import com.example.apartment_api.repository.AppRoleRepository;
 import com.example.apartment_api.repository.AppUserRepository;
 import com.example.apartment_api.repository.CustomerRepository;
 import jakarta.validation.Valid;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class AppUserService {
 
+    private static final Map<String, String> CREATE_CONSTRAINTS = Map.of("ux_app_user_app_user", "username zaten kayıtlı");
+    private static final Map<String, String> UPDATE_CONSTRAINTS = Map.of("ux_app_user_app_user", "username başka bir kullanıcıya ait");
+
     private final AppUserRepository appUserRepository;
     private final CustomerRepository customerRepository;
     private final AppRoleRepository appRoleRepository;
+    private final AppRoleService appRoleService;
 
     public AppUserService(AppUserRepository appUserRepository,
                           CustomerRepository customerRepository,
-                          AppRoleRepository appRoleRepository) {
+                          AppRoleRepository appRoleRepository,
+                          AppRoleService appRoleService) {
         this.appUserRepository = appUserRepository;
         this.customerRepository = customerRepository;
         this.appRoleRepository = appRoleRepository;
+        this.appRoleService = appRoleService;
     }
 
     // GET ALL
     public List<AppUserResponseDto> getAllActive() {
-        return appUserRepository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return appUserRepository.findActiveResponses();
     }
 
     // GET BY ID
+    @Transactional(readOnly = true)
     public AppUserResponseDto getById(UUID id) {
         AppUser user = getEntityById(id);
         return mapToResponse(user);
@@ -49,15 +59,10 @@ public class AppUserService {
     // CREATE
     public AppUserResponseDto create(@Valid AppUserRequestDto dto) {
 
-        if (appUserRepository.existsByUsernameAndDeletedFalse(dto.getUsername())) {
-            throw new BusinessException("username zaten kayıtlı");
-        }
-
         Customer customer = customerRepository.findByIdAndDeletedFalse(dto.getCustomerId())
                 .orElseThrow(() -> new BusinessException("customerId geçersiz (aktif müşteri bulunamadı)"));
 
-        AppRole role = appRoleRepository.findByIdAndDeletedFalse(dto.getRoleId())
-                .orElseThrow(() -> new BusinessException("roleId geçersiz (aktif rol bulunamadı)"));
+        AppRole role = getActiveRoleReference(dto.getRoleId());
 
         AppUser user = new AppUser();
         user.setUsername(dto.getUsername());
@@ -67,7 +72,8 @@ public class AppUserService {
         user.setCreatedate(LocalDateTime.now());
         user.setDeleted(false);
 
-        AppUser saved = appUserRepository.save(user);
+        AppUser saved = UniqueConstraintTranslator.translate(CREATE_CONSTRAINTS,
+                () -> appUserRepository.saveAndFlush(user));
         return mapToResponse(saved);
     }
 
@@ -75,15 +81,10 @@ public class AppUserService {
     public AppUserResponseDto update(UUID id, @Valid AppUserRequestDto dto) {
         AppUser user = getEntityById(id);
 
-        if (appUserRepository.existsByUsernameAndDeletedFalseAndIdNot(dto.getUsername(), id)) {
-            throw new BusinessException("username başka bir kullanıcıya ait");
-        }
-
         Customer customer = customerRepository.findByIdAndDeletedFalse(dto.getCustomerId())
                 .orElseThrow(() -> new BusinessException("customerId geçersiz (aktif müşteri bulunamadı)"));
 
-        AppRole role = appRoleRepository.findByIdAndDeletedFalse(dto.getRoleId())
-                .orElseThrow(() -> new BusinessException("roleId geçersiz (aktif rol bulunamadı)"));
+        AppRole role = getActiveRoleReference(dto.getRoleId());
 
         user.setUsername(dto.getUsername());
         user.setPassword(dto.getPassword());
@@ -91,21 +92,38 @@ public class AppUserService {
         user.setRole(role);
         user.setUpdatedate(LocalDateTime.now());
 
-        AppUser updated = appUserRepository.save(user);
+        AppUser updated = UniqueConstraintTranslator.translate(UPDATE_CONSTRAINTS,
+                () -> appUserRepository.saveAndFlush(user));
         return mapToResponse(updated);
     }
 
     // DELETE (soft)
+    @Transactional
     public void delete(UUID id) {
-        AppUser user = getEntityById(id);
-        user.setDeleted(true);
-        user.setEnddate(LocalDateTime.now());
-        appUserRepository.save(user);
+        if (appUserRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("User not found");
+        }
+    }
+
+    // BULK DELETE (soft)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = appUserRepository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
     }
 
     // ==============
     // Private helpers
     // ==============
+    // rol doğrulaması cache'ten; entity yüklenmez, FK için referans yeterli
+    private AppRole getActiveRoleReference(UUID roleId) {
+        if (roleId == null || !appRoleService.existsActive(roleId)) {
+            throw new BusinessException("roleId geçersiz (aktif rol bulunamadı)");
+        }
+        return appRoleRepository.getReferenceById(roleId);
+    }
+
     private AppUser getEntityById(UUID id) {
         return appUserRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -1,24 +1,34 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.CustomerRequestDto;
 import com.example.apartment_api.dto.CustomerResponseDto;
 import com.example.apartment_api.entity.Customer;
-import com.example.apartment_api.exception.BusinessException;
 import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.exception.UniqueConstraintTranslator;
 import com.example.apartment_api.repository.CustomerRepository;
 import jakarta.validation.Valid;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
-import java.util.stream.Collectors;
-
-
 @Service
 public class CustomerService {
 
+    // tel / email tekilliği: V7 partial unique index'leri
+    private static final Map<String, String> CREATE_CONSTRAINTS = Map.of(
+            "ux_customer_tel", "Telefon numarası zaten kayıtlı",
+            "ux_customer_email", "Email adresi zaten kayıtlı");
+    private static final Map<String, String> UPDATE_CONSTRAINTS = Map.of(
+            "ux_customer_tel", "Telefon numarası başka bir müşteriye ait",
+            "ux_customer_email", "Email adresi başka bir müşteriye ait");
+
     private final CustomerRepository customerRepository;
 
     public CustomerService(CustomerRepository customerRepository) {
@@ -29,15 +39,13 @@ public class CustomerService {
     // GET ALL (DTO)
     // ======================
     public List<CustomerResponseDto> getAllActiveCustomers() {
-        return customerRepository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return customerRepository.findActiveResponses();
     }
 
     // ======================
     // GET BY ID (DTO)
     // ======================
+    @Transactional(readOnly = true)
     public CustomerResponseDto getById(UUID id) {
         Customer customer = getCustomerEntityById(id);
         return mapToResponse(customer);
@@ -50,21 +58,12 @@ public class CustomerService {
     // ======================
     public CustomerResponseDto create(@Valid CustomerRequestDto dto) {
 
-
-        if (customerRepository.existsByTelAndDeletedFalse(dto.getTel())) {
-            throw new BusinessException("Telefon numarası zaten kayıtlı");
-        }
-
-        if (customerRepository.existsByEmailAndDeletedFalse(dto.getEmail())) {
-            throw new BusinessException("Email adresi zaten kayıtlı");
-        }
-
-
         Customer customer = mapToEntity(dto);
         customer.setCreatedate(LocalDateTime.now());
         customer.setDeleted(false);
 
-        Customer saved = customerRepository.save(customer);
+        Customer saved = UniqueConstraintTranslator.translate(CREATE_CONSTRAINTS,
+                () -> customerRepository.saveAndFlush(customer));
         return mapToResponse(saved);
     }
 
@@ -74,36 +73,35 @@ public class CustomerService {
     public CustomerResponseDto update(UUID id, @Valid CustomerRequestDto dto) {
         Customer customer = getCustomerEntityById(id);
 
-
-        if (customerRepository.existsByTelAndDeletedFalseAndIdNot(dto.getTel(), id)) {
-            throw new BusinessException("Telefon numarası başka bir müşteriye ait");
-        }
-
-        if (customerRepository.existsByEmailAndDeletedFalseAndIdNot(dto.getEmail(), id)) {
-            throw new BusinessException("Email adresi başka bir müşteriye ait");
-        }
-
-
         customer.setName(dto.getName());
         customer.setSurname(dto.getSurname());
         customer.setTel(dto.getTel());
         customer.setEmail(dto.getEmail());
         customer.setUpdatedate(LocalDateTime.now());
 
-        Customer updated = customerRepository.save(customer);
+        Customer updated = UniqueConstraintTranslator.translate(UPDATE_CONSTRAINTS,
+                () -> customerRepository.saveAndFlush(customer));
         return mapToResponse(updated);
     }
 
     // ======================
     // DELETE (SOFT DELETE)
     // ======================
+    @Transactional
     public void delete(UUID id) {
-        Customer customer = getCustomerEntityById(id);
-
-        customer.setDeleted(true);
-        customer.setEnddate(LocalDateTime.now());
+        if (customerRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Customer not found");
+        }
+    }
 
-        customerRepository.save(customer);
+    // ======================
+    // BULK DELETE (SOFT DELETE)
+    // ======================
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = customerRepository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
     }
 
     // ======================
@@ -1,23 +1,35 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.DaireRequestDto;
 import com.example.apartment_api.dto.DaireResponseDto;
 import com.example.apartment_api.entity.AppUser;
 import com.example.apartment_api.entity.Daire;
 import com.example.apartment_api.exception.BusinessException;
 import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.exception.UniqueConstraintTranslator;
 import com.example.apartment_api.repository.AppUserRepository;
 import com.example.apartment_api.repository.DaireRepository;
+import com.example.apartment_api.config.CacheConfig;
 import jakarta.validation.Valid;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class DaireService {
 
+    private static final Map<String, String> CREATE_CONSTRAINTS = Map.of("ux_daireler_daireno", "daireno zaten kayıtlı");
+    private static final Map<String, String> UPDATE_CONSTRAINTS = Map.of("ux_daireler_daireno", "daireno başka bir daireye ait");
+
     private final DaireRepository daireRepository;
     private final AppUserRepository appUserRepository;
 
@@ -27,34 +39,29 @@ public class DaireService {
     }
 
     // GET ALL
+    @Cacheable(CacheConfig.DAIRELER)
     public List<DaireResponseDto> getAllActive() {
-        return daireRepository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return daireRepository.findActiveResponses();
     }
 
     // GET BY ID
+    @Cacheable(cacheNames = CacheConfig.DAIRE, key = "#id")
+    @Transactional(readOnly = true)
     public DaireResponseDto getById(UUID id) {
         Daire daire = getEntityById(id);
         return mapToResponse(daire);
     }
 
     // GET BY USERID (kullanıcıya bağlı daireler)
+    @Cacheable(cacheNames = CacheConfig.DAIRELER_BY_USER, key = "#userid")
     public List<DaireResponseDto> getByUserId(UUID userid) {
-        return daireRepository.findByUserIdAndDeletedFalse(userid)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return daireRepository.findActiveResponsesByUserId(userid);
     }
 
     // CREATE
+    @CacheEvict(cacheNames = {CacheConfig.DAIRELER, CacheConfig.DAIRE, CacheConfig.DAIRELER_BY_USER}, allEntries = true)
     public DaireResponseDto create(@Valid DaireRequestDto dto) {
 
-        if (daireRepository.existsByDairenoAndDeletedFalse(dto.getDaireno())) {
-            throw new BusinessException("daireno zaten kayıtlı");
-        }
-
         AppUser user = appUserRepository.findByIdAndDeletedFalse(dto.getUserid())
                 .orElseThrow(() -> new BusinessException("userid geçersiz (aktif kullanıcı bulunamadı)"));
 
@@ -64,18 +71,16 @@ public class DaireService {
         daire.setCreatedate(LocalDateTime.now());
         daire.setDeleted(false);
 
-        Daire saved = daireRepository.save(daire);
+        Daire saved = UniqueConstraintTranslator.translate(CREATE_CONSTRAINTS,
+                () -> daireRepository.saveAndFlush(daire));
         return mapToResponse(saved);
     }
 
     // UPDATE
+    @CacheEvict(cacheNames = {CacheConfig.DAIRELER, CacheConfig.DAIRE, CacheConfig.DAIRELER_BY_USER}, allEntries = true)
     public DaireResponseDto update(UUID id, @Valid DaireRequestDto dto) {
         Daire daire = getEntityById(id);
 
-        if (daireRepository.existsByDairenoAndDeletedFalseAndIdNot(dto.getDaireno(), id)) {
-            throw new BusinessException("daireno başka bir daireye ait");
-        }
-
         AppUser user = appUserRepository.findByIdAndDeletedFalse(dto.getUserid())
                 .orElseThrow(() -> new BusinessException("userid geçersiz (aktif kullanıcı bulunamadı)"));
 
@@ -83,18 +88,27 @@ public class DaireService {
         daire.setUser(user);
         daire.setUpdatedate(LocalDateTime.now());
 
-        Daire updated = daireRepository.save(daire);
+        Daire updated = UniqueConstraintTranslator.translate(UPDATE_CONSTRAINTS,
+                () -> daireRepository.saveAndFlush(daire));
         return mapToResponse(updated);
     }
 
     // DELETE (soft)
+    @CacheEvict(cacheNames = {CacheConfig.DAIRELER, CacheConfig.DAIRE, CacheConfig.DAIRELER_BY_USER}, allEntries = true)
+    @Transactional
     public void delete(UUID id) {
-        Daire daire = getEntityById(id);
-
-        daire.setDeleted(true);
-        daire.setEnddate(LocalDateTime.now());
+        if (daireRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Daire not found");
+        }
+    }
 
-        daireRepository.save(daire);
+    // BULK DELETE (soft)
+    @CacheEvict(cacheNames = {CacheConfig.DAIRELER, CacheConfig.DAIRE, CacheConfig.DAIRELER_BY_USER}, allEntries = true)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = daireRepository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
     }
 
     // ============
@@ -0,0 +1,153 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.dto.*;
+import com.example.apartment_api.entity.Daire;
+import com.example.apartment_api.entity.DaireTahakkuk;
+import com.example.apartment_api.exception.BusinessException;
+import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.exception.UniqueConstraintTranslator;
+import com.example.apartment_api.repository.DaireHesapQueryRepository;
+import com.example.apartment_api.repository.DaireRepository;
+import com.example.apartment_api.repository.DaireTahakkukRepository;
+import com.example.apartment_api.repository.UcretTypeRepository;
+import jakarta.validation.Valid;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+public class DaireTahakkukService {
+
+    private static final Map<String, String> CREATE_CONSTRAINTS = Map.of(
+            "ux_daire_tahakkuk_daire_ucrettype_donem", "bu daireye bu dönem için aynı ücret tipi zaten tahakkuk edilmiş");
+
+    private final DaireTahakkukRepository tahakkukRepository;
+    private final DaireHesapQueryRepository hesapQueryRepository;
+    private final DaireRepository daireRepository;
+    private final UcretTypeRepository ucretTypeRepository;
+
+    public DaireTahakkukService(DaireTahakkukRepository tahakkukRepository,
+                                DaireHesapQueryRepository hesapQueryRepository,
+                                DaireRepository daireRepository,
+                                UcretTypeRepository ucretTypeRepository) {
+        this.tahakkukRepository = tahakkukRepository;
+        this.hesapQueryRepository = hesapQueryRepository;
+        this.daireRepository = daireRepository;
+        this.ucretTypeRepository = ucretTypeRepository;
+    }
+
+    // GET BY DAIRE
+    public List<DaireTahakkukResponseDto> getByDaire(UUID daireid) {
+        return tahakkukRepository.findResponsesByDaireid(daireid);
+    }
+
+    // CREATE
+    @Transactional
+    public DaireTahakkukResponseDto create(@Valid DaireTahakkukRequestDto dto) {
+
+        if (daireRepository.findByIdAndDeletedFalse(dto.getDaireid()).isEmpty()) {
+            throw new BusinessException("daireid geçersiz (aktif daire bulunamadı)");
+        }
+        if (ucretTypeRepository.findByIdAndDeletedFalse(dto.getUcrettypeid()).isEmpty()) {
+            throw new BusinessException("ucrettypeid geçersiz (aktif ücret tipi bulunamadı)");
+        }
+
+        LocalDate donem = dto.getDonem().withDayOfMonth(1);
+
+        DaireTahakkuk tahakkuk = new DaireTahakkuk();
+        tahakkuk.setDaireid(dto.getDaireid());
+        tahakkuk.setUcrettypeid(dto.getUcrettypeid());
+        tahakkuk.setDonem(donem);
+        tahakkuk.setAmount(dto.getAmount());
+        tahakkuk.setDescription(dto.getDescription());
+        tahakkuk.setCreatedate(LocalDateTime.now());
+        tahakkuk.setDeleted(false);
+
+        return mapToResponse(UniqueConstraintTranslator.translate(CREATE_CONSTRAINTS,
+                () -> tahakkukRepository.saveAndFlush(tahakkuk)));
+    }
+
+    // DELETE (soft)
+    @Transactional
+    public void delete(UUID id) {
+        if (tahakkukRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Daire tahakkuk not found");
+        }
+    }
+
+    // BULK DELETE (soft)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = tahakkukRepository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
+    }
+
+    // ============
+    // hesap ekstresi / borç raporu
+    // ============
+
+    // tek daire: tarih sıralı satırlar + yürüyen bakiye + ücret tipi kırılımı
+    public DaireEkstreResponseDto getEkstre(UUID daireid) {
+        Daire daire = daireRepository.findByIdAndDeletedFalse(daireid)
+                .orElseThrow(() -> new ResourceNotFoundException("Daire not found"));
+
+        List<DaireEkstreSatirDto> satirlar = hesapQueryRepository.findEkstre(daireid);
+
+        BigDecimal borc = BigDecimal.ZERO;
+        BigDecimal alacak = BigDecimal.ZERO;
+        Map<UUID, DaireUcretTypeOzetDto> ucretTypes = new LinkedHashMap<>();
+
+        for (DaireEkstreSatirDto satir : satirlar) {
+            borc = borc.add(satir.getBorc());
+            alacak = alacak.add(satir.getAlacak());
+
+            // HashMap null key kabul eder: ücret tipsiz ödemeler tek kovada
+            DaireUcretTypeOzetDto ozet = ucretTypes.computeIfAbsent(satir.getUcrettypeid(), id -> {
+                DaireUcretTypeOzetDto o = new DaireUcretTypeOzetDto();
+                o.setUcrettypeid(id);
+                return o;
+            });
+            ozet.setBorc(ozet.getBorc().add(satir.getBorc()));
+            ozet.setAlacak(ozet.getAlacak().add(satir.getAlacak()));
+            ozet.setBakiye(ozet.getBorc().subtract(ozet.getAlacak()));
+        }
+
+        DaireEkstreResponseDto dto = new DaireEkstreResponseDto();
+        dto.setDaireid(daireid);
+        dto.setDaireno(daire.getDaireno());
+        dto.setBorc(borc);
+        dto.setAlacak(alacak);
+        dto.setBakiye(borc.subtract(alacak));
+        dto.setUcretTypes(new ArrayList<>(ucretTypes.values()));
+        dto.setSatirlar(satirlar);
+        return dto;
+    }
+
+    // tüm aktif daireler tek gruplu sorguyla; onlyBorclu: yalnız bakiyesi > 0 olanlar
+    public List<DaireBorcResponseDto> getBorcRaporu(boolean onlyBorclu) {
+        List<DaireBorcResponseDto> rapor = hesapQueryRepository.findBorcRaporu();
+        if (!onlyBorclu) {
+            return rapor;
+        }
+        return rapor.stream()
+                .filter(d -> d.getBakiye().signum() > 0)
+                .toList();
+    }
+
+    private DaireTahakkukResponseDto mapToResponse(DaireTahakkuk e) {
+        DaireTahakkukResponseDto dto = new DaireTahakkukResponseDto();
+        dto.setId(e.getId());
+        dto.setDaireid(e.getDaireid());
+        dto.setUcrettypeid(e.getUcrettypeid());
+        dto.setDonem(e.getDonem());
+        dto.setAmount(e.getAmount());
+        dto.setDescription(e.getDescription());
+        dto.setCreatedate(e.getCreatedate());
+        return dto;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.DuyuruRequestDto;
 import com.example.apartment_api.dto.DuyuruResponseDto;
 import com.example.apartment_api.entity.Duyuru;
@@ -7,9 +8,12 @@ import com.example.apartment_api.exception.ResourceNotFoundException;
 import com.example.apartment_api.repository.DuyuruRepository;
 import jakarta.validation.Valid;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -23,13 +27,11 @@ public class DuyuruService {
 
     // GET ALL (aktif)
     public List<DuyuruResponseDto> getAllActive() {
-        return repository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return repository.findActiveResponses();
     }
 
     // GET BY ID
+    @Transactional(readOnly = true)
     public DuyuruResponseDto getById(UUID id) {
         return mapToResponse(getEntity(id));
     }
@@ -59,19 +61,24 @@ public class DuyuruService {
     }
 
     // DELETE (soft)
+    @Transactional
     public void delete(UUID id) {
-        Duyuru d = getEntity(id);
-        d.setDeleted(true);
-        d.setEnddate(LocalDateTime.now());
-        repository.save(d);
+        if (repository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Duyuru not found");
+        }
+    }
+
+    // BULK DELETE (soft)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = repository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
     }
 
     // sadece süresi geçmemiş duyurular
     public List<DuyuruResponseDto> getActiveAnnouncements() {
-        return repository.findByDeletedFalseAndExpiredateAfter(LocalDateTime.now())
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return repository.findActiveResponsesExpiringAfter(LocalDateTime.now());
     }
 
     // ======================
@@ -0,0 +1,129 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.dto.KasaBakiyeDriftResponseDto;
+import com.example.apartment_api.entity.KasaBakiye;
+import com.example.apartment_api.enums.KasaDirection;
+import com.example.apartment_api.repository.KasaBakiyeRepository;
+import com.example.apartment_api.repository.KasaDirectionTotalsView;
+import com.example.apartment_api.repository.KasaHareketRepository;
+import com.example.apartment_api.repository.KasaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+public class KasaBakiyeService {
+
+    private static final Logger log = LoggerFactory.getLogger(KasaBakiyeService.class);
+
+    private final KasaBakiyeRepository bakiyeRepository;
+    private final KasaHareketRepository hareketRepository;
+    private final KasaRepository kasaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public KasaBakiyeService(KasaBakiyeRepository bakiyeRepository,
+                             KasaHareketRepository hareketRepository,
+                             KasaRepository kasaRepository,
+                             TransactionTemplate transactionTemplate) {
+        this.bakiyeRepository = bakiyeRepository;
+        this.hareketRepository = hareketRepository;
+        this.kasaRepository = kasaRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // gece çalışan mutabakat: kasa_bakiye'yi ham hareketlerden yeniden hesaplar, sapmaları raporlar ve düzeltir
+    @Scheduled(cron = "${kasa.bakiye.reconcile-cron:0 30 3 * * *}")
+    public List<KasaBakiyeDriftResponseDto> reconcile() {
+
+        Set<UUID> kasaids = new LinkedHashSet<>(hareketRepository.findDistinctKasaids());
+        bakiyeRepository.findAll().forEach(b -> kasaids.add(b.getKasaid()));
+        // arşivlenen kasaların hareketleri ayrılmış partition'da; özetleri olduğu gibi korunur
+        kasaRepository.findArchivedIds().forEach(kasaids::remove);
+
+        List<KasaBakiyeDriftResponseDto> drifts = new ArrayList<>();
+        for (UUID kasaid : kasaids) {
+            KasaBakiyeDriftResponseDto drift = transactionTemplate.execute(status -> reconcileKasa(kasaid));
+            if (drift != null) {
+                drifts.add(drift);
+            }
+        }
+
+        if (drifts.isEmpty()) {
+            log.info("Kasa bakiye mutabakatı tamamlandı, {} kasa kontrol edildi, sapma yok", kasaids.size());
+        } else {
+            log.warn("Kasa bakiye mutabakatı: {} kasadan {} tanesinde sapma bulundu ve düzeltildi",
+                    kasaids.size(), drifts.size());
+        }
+        return drifts;
+    }
+
+    // tek kasa; çağıranın transaction'ına katılır (toplu import sonrası aynı transaction'da düzeltme)
+    @Transactional
+    public KasaBakiyeDriftResponseDto reconcile(UUID kasaid) {
+        return reconcileKasa(kasaid);
+    }
+
+    // satır kilitlendikten sonra toplanır; eşzamanlı kayıtlar bu kasa için mutabakat bitene kadar bekler
+    private KasaBakiyeDriftResponseDto reconcileKasa(UUID kasaid) {
+
+        bakiyeRepository.ensureExists(kasaid);
+        KasaBakiye bakiye = bakiyeRepository.findByKasaidForUpdate(kasaid).orElseThrow();
+
+        BigDecimal totalIn = BigDecimal.ZERO;
+        BigDecimal totalOut = BigDecimal.ZERO;
+        long inCount = 0;
+        long outCount = 0;
+        LocalDateTime lastDate = null;
+
+        for (KasaDirectionTotalsView row : hareketRepository.totalsByDirection(kasaid)) {
+            if (row.getDirection() == KasaDirection.IN) {
+                totalIn = row.getTotal();
+                inCount = row.getCount();
+            } else {
+                totalOut = row.getTotal();
+                outCount = row.getCount();
+            }
+            if (lastDate == null || (row.getLastDate() != null && row.getLastDate().isAfter(lastDate))) {
+                lastDate = row.getLastDate();
+            }
+        }
+
+        boolean same = bakiye.getTotalIn().compareTo(totalIn) == 0
+                && bakiye.getTotalOut().compareTo(totalOut) == 0
+                && bakiye.getInCount() == inCount
+                && bakiye.getOutCount() == outCount
+                && Objects.equals(bakiye.getLastTransactionDate(), lastDate);
+        if (same) {
+            return null;
+        }
+
+        KasaBakiyeDriftResponseDto drift = new KasaBakiyeDriftResponseDto();
+        drift.setKasaid(kasaid);
+        drift.setSnapshotTotalIn(bakiye.getTotalIn());
+        drift.setSnapshotTotalOut(bakiye.getTotalOut());
+        drift.setSnapshotHareketCount(bakiye.getInCount() + bakiye.getOutCount());
+        drift.setActualTotalIn(totalIn);
+        drift.setActualTotalOut(totalOut);
+        drift.setActualHareketCount(inCount + outCount);
+
+        log.warn("Kasa {} bakiye sapması: snapshot in/out {}/{}, gerçek in/out {}/{}",
+                kasaid, bakiye.getTotalIn(), bakiye.getTotalOut(), totalIn, totalOut);
+
+        bakiye.setTotalIn(totalIn);
+        bakiye.setTotalOut(totalOut);
+        bakiye.setInCount(inCount);
+        bakiye.setOutCount(outCount);
+        bakiye.setLastTransactionDate(lastDate);
+        bakiye.setUpdatedate(LocalDateTime.now());
+        bakiyeRepository.save(bakiye);
+
+        return drift;
+    }
+}
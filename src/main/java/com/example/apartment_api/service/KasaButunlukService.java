@@ -0,0 +1,227 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.dto.KasaButunlukRaporDto;
+import com.example.apartment_api.dto.KasaButunlukSorunDto;
+import com.example.apartment_api.enums.ButunlukSorunTipi;
+import com.example.apartment_api.exception.BusinessException;
+import com.example.apartment_api.repository.KasaHareketQueryRepository;
+import com.example.apartment_api.repository.KasaHareketScanRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// gece çalışan bütünlük taraması: kasa_hareket'i (kasaid, id) keyset chunk'larıyla baştan sona gezer,
+// referansları ve alan kurallarını kontrol eder, raporu bellekte tutar ve metrik olarak yayınlar.
+// Bakiye sapması burada aranmaz: o iş KasaBakiyeService.reconcile()'ın
+@Service
+public class KasaButunlukService {
+
+    private static final Logger log = LoggerFactory.getLogger(KasaButunlukService.class);
+
+    private static final int MAX_ORNEK = 1000;
+
+    private final KasaHareketQueryRepository queryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int chunkSize;
+    private final long throttleMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<KasaButunlukRaporDto> lastRapor = new AtomicReference<>();
+
+    private final Counter scannedCounter;
+    private final Timer scanTimer;
+
+    public KasaButunlukService(KasaHareketQueryRepository queryRepository,
+                               JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${kasa.butunluk.chunk-size:5000}") int chunkSize,
+                               @Value("${kasa.butunluk.throttle-ms:20}") long throttleMs) {
+        this.queryRepository = queryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+
+        this.scannedCounter = Counter.builder("kasa.butunluk.scanned")
+                .register(meterRegistry);
+        this.scanTimer = Timer.builder("kasa.butunluk.scan")
+                .register(meterRegistry);
+
+        // son taramanın tip bazlı sorun sayıları (henüz tarama yoksa 0)
+        for (ButunlukSorunTipi tip : ButunlukSorunTipi.values()) {
+            Gauge.builder("kasa.butunluk.sorun", lastRapor,
+                            ref -> ref.get() != null ? ref.get().getSorunByTip().getOrDefault(tip, 0L) : 0)
+                    .tag("tip", tip.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(cron = "${kasa.butunluk.cron:0 0 4 * * *}")
+    public void scheduledScan() {
+        try {
+            scan();
+        } catch (BusinessException e) {
+            log.warn("bütünlük taraması atlandı: {}", e.getMessage());
+        }
+    }
+
+    // tam tarama; aynı anda tek tarama çalışır
+    public KasaButunlukRaporDto scan() {
+
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("Bütünlük taraması zaten çalışıyor");
+        }
+
+        try {
+            KasaButunlukRaporDto rapor = scanTimer.record(this::doScan);
+            lastRapor.set(rapor);
+
+            log.info("bütünlük taraması bitti: {} satır, {} chunk, {} sorun, {} ms",
+                    rapor.getScannedCount(), rapor.getChunkCount(), rapor.getSorunCount(), rapor.getDurationMs());
+            return rapor;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Optional<KasaButunlukRaporDto> getLastRapor() {
+        return Optional.ofNullable(lastRapor.get());
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    private KasaButunlukRaporDto doScan() {
+
+        long start = System.nanoTime();
+
+        KasaButunlukRaporDto rapor = new KasaButunlukRaporDto();
+        rapor.setStartedAt(LocalDateTime.now());
+
+        // referans tabloları küçük: tarama başında id -> deleted olarak bir kez yüklenir
+        Map<UUID, Boolean> kasalar = loadDeletedFlags("kasa");
+        Map<UUID, Boolean> daireler = loadDeletedFlags("daireler");
+        Map<UUID, Boolean> ucretTypes = loadDeletedFlags("ucrettype");
+
+        UUID afterKasaid = null;
+        UUID afterId = null;
+
+        while (true) {
+            // her chunk kendi kısa sorgusu (autocommit): tarama boyunca snapshot / kilit tutulmaz
+            List<KasaHareketScanRow> chunk = queryRepository.scanChunk(afterKasaid, afterId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            for (KasaHareketScanRow row : chunk) {
+                check(row, kasalar, daireler, ucretTypes, rapor);
+            }
+
+            rapor.setScannedCount(rapor.getScannedCount() + chunk.size());
+            rapor.setChunkCount(rapor.getChunkCount() + 1);
+            scannedCounter.increment(chunk.size());
+
+            KasaHareketScanRow last = chunk.get(chunk.size() - 1);
+            afterKasaid = last.kasaid();
+            afterId = last.id();
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            throttle();
+        }
+
+        // id tekilliği DB'de zorlanamıyor; yalnız id ile çalışan yollar (findById, toplu silme) buna güvenir
+        for (KasaHareketScanRow row : queryRepository.findDuplicateIds(MAX_ORNEK)) {
+            addSorun(rapor, row, ButunlukSorunTipi.ID_TEKRAR, "id başka bir kasada da kullanılmış");
+        }
+
+        rapor.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return rapor;
+    }
+
+    private void check(KasaHareketScanRow row,
+                       Map<UUID, Boolean> kasalar,
+                       Map<UUID, Boolean> daireler,
+                       Map<UUID, Boolean> ucretTypes,
+                       KasaButunlukRaporDto rapor) {
+
+        if (row.deleted()) {
+            if (row.enddate() == null) {
+                addSorun(rapor, row, ButunlukSorunTipi.ENDDATE_YOK, "silinmiş hareketin enddate'i boş");
+            }
+            return;
+        }
+
+        checkRef(rapor, row, kasalar, row.kasaid(), ButunlukSorunTipi.KASA_YOK, ButunlukSorunTipi.KASA_SILINMIS);
+        checkRef(rapor, row, daireler, row.daireid(), ButunlukSorunTipi.DAIRE_YOK, ButunlukSorunTipi.DAIRE_SILINMIS);
+        checkRef(rapor, row, ucretTypes, row.ucrettypeid(), ButunlukSorunTipi.UCRETTYPE_YOK, ButunlukSorunTipi.UCRETTYPE_SILINMIS);
+
+        if (row.amount() == null || row.amount().compareTo(BigDecimal.ZERO) <= 0) {
+            addSorun(rapor, row, ButunlukSorunTipi.TUTAR_GECERSIZ, "amount: " + row.amount());
+        }
+    }
+
+    // referans null ise (opsiyonel alan) kontrol edilmez
+    private void checkRef(KasaButunlukRaporDto rapor,
+                          KasaHareketScanRow row,
+                          Map<UUID, Boolean> refs,
+                          UUID refId,
+                          ButunlukSorunTipi yok,
+                          ButunlukSorunTipi silinmis) {
+        if (refId == null) {
+            return;
+        }
+        Boolean deleted = refs.get(refId);
+        if (deleted == null) {
+            addSorun(rapor, row, yok, refId.toString());
+        } else if (deleted) {
+            addSorun(rapor, row, silinmis, refId.toString());
+        }
+    }
+
+    private void addSorun(KasaButunlukRaporDto rapor, KasaHareketScanRow row, ButunlukSorunTipi tip, String detay) {
+        rapor.setSorunCount(rapor.getSorunCount() + 1);
+        rapor.getSorunByTip().merge(tip, 1L, Long::sum);
+        if (rapor.getOrnekler().size() < MAX_ORNEK) {
+            rapor.getOrnekler().add(new KasaButunlukSorunDto(row.id(), row.kasaid(), tip, detay));
+        }
+    }
+
+    private Map<UUID, Boolean> loadDeletedFlags(String table) {
+        Map<UUID, Boolean> flags = new HashMap<>();
+        jdbcTemplate.query("select id, delete from " + table,
+                rs -> {
+                    flags.put(rs.getObject("id", UUID.class), rs.getBoolean("delete"));
+                });
+        return flags;
+    }
+
+    // chunk'lar arası kısa bekleme: OLTP trafiğine I/O payı bırakır
+    private void throttle() {
+        if (throttleMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(throttleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("bütünlük taraması kesildi", e);
+        }
+    }
+}
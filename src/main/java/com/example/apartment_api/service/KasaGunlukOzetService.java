@@ -0,0 +1,73 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.config.CacheConfig;
+import com.example.apartment_api.exception.BusinessException;
+import com.example.apartment_api.repository.KasaBakiyeRepository;
+import com.example.apartment_api.repository.KasaGunlukOzetRepository;
+import com.example.apartment_api.repository.KasaHareketRepository;
+import com.example.apartment_api.repository.KasaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class KasaGunlukOzetService {
+
+    private static final Logger log = LoggerFactory.getLogger(KasaGunlukOzetService.class);
+
+    private final KasaGunlukOzetRepository ozetRepository;
+    private final KasaHareketRepository hareketRepository;
+    private final KasaBakiyeRepository bakiyeRepository;
+    private final KasaRepository kasaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public KasaGunlukOzetService(KasaGunlukOzetRepository ozetRepository,
+                                 KasaHareketRepository hareketRepository,
+                                 KasaBakiyeRepository bakiyeRepository,
+                                 KasaRepository kasaRepository,
+                                 TransactionTemplate transactionTemplate) {
+        this.ozetRepository = ozetRepository;
+        this.hareketRepository = hareketRepository;
+        this.bakiyeRepository = bakiyeRepository;
+        this.kasaRepository = kasaRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // tek kasanın günlük özetini kasa_hareket'ten baştan üretir, üretilen satır sayısını döner.
+    // yıllık rapor cache'i özetten üretildiği için tamamen düşer (rebuild nadir bir bakım işi)
+    @CacheEvict(cacheNames = CacheConfig.KASA_YILLIK_OZET, allEntries = true)
+    public int rebuild(UUID kasaid) {
+        // arşivlenen kasanın hareketleri ayrılmış partition'da; özeti silinirse geri üretilemez
+        if (kasaRepository.findArchivedIds().contains(kasaid)) {
+            throw new BusinessException("Arşivlenmiş kasanın günlük özeti yeniden üretilemez");
+        }
+
+        Integer rows = transactionTemplate.execute(status -> {
+            // kasa_bakiye kilidi: bu sırada gelen kayıtlar rebuild bitince kendi deltalarını ekler
+            bakiyeRepository.ensureExists(kasaid);
+            bakiyeRepository.findByKasaidForUpdate(kasaid);
+
+            ozetRepository.deleteByKasaid(kasaid);
+            return ozetRepository.rebuild(kasaid);
+        });
+        return rows != null ? rows : 0;
+    }
+
+    // backfill: her kasa ayrı transaction'da.
+    // rebuild burada proxy'siz çağrılır, yıllık rapor cache'i bu metodun kendi evict'i ile düşer
+    @CacheEvict(cacheNames = CacheConfig.KASA_YILLIK_OZET, allEntries = true)
+    public int rebuildAll() {
+        List<UUID> kasaids = hareketRepository.findDistinctKasaids();
+        int total = 0;
+        for (UUID kasaid : kasaids) {
+            total += rebuild(kasaid);
+        }
+        log.info("kasa_gunluk_ozet yeniden üretildi: {} kasa, {} satır", kasaids.size(), total);
+        return total;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.dto.KasaHareketFilterDto;
+import com.example.apartment_api.dto.KasaHareketResponseDto;
+import com.example.apartment_api.repository.DaireRepository;
+import com.example.apartment_api.repository.IdKodView;
+import com.example.apartment_api.repository.KasaHareketQueryRepository;
+import com.example.apartment_api.repository.UcretTypeRepository;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// kasa hareketlerinin CSV / XLSX dışa aktarımı. Kayıtlar cursor'dan okundukça yazılır;
+// bellek kullanımı satır sayısıyla büyümez (CSV: buffer, XLSX: SXSSF pencere + geçici dosya)
+@Service
+public class KasaHareketExportService {
+
+    private static final String[] HEADERS = {
+            "id", "tarih", "yon", "tutar", "daireid", "daireno", "ucrettypeid", "ucrettype", "aciklama"
+    };
+
+    // SXSSF bellekte tuttuğu satır sayısı; fazlası geçici dosyaya yazılır
+    private static final int XLSX_ROW_WINDOW = 200;
+
+    // Excel sayfa sınırı 1.048.576 satır; başlık dahil bu sayıda sonra yeni sayfa açılır
+    private static final int XLSX_MAX_ROWS_PER_SHEET = 1_000_000;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final KasaHareketQueryRepository queryRepository;
+    private final DaireRepository daireRepository;
+    private final UcretTypeRepository ucretTypeRepository;
+
+    public KasaHareketExportService(KasaHareketQueryRepository queryRepository,
+                                    DaireRepository daireRepository,
+                                    UcretTypeRepository ucretTypeRepository) {
+        this.queryRepository = queryRepository;
+        this.daireRepository = daireRepository;
+        this.ucretTypeRepository = ucretTypeRepository;
+    }
+
+    // readOnly transaction: PostgreSQL'in fetch size'a göre cursor açması için gerekli
+    @Transactional(readOnly = true)
+    public void exportCsv(UUID kasaid, KasaHareketFilterDto filter, OutputStream out) throws IOException {
+        Lookups lookups = lookups();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        // Excel'in UTF-8 olarak açması için BOM
+        writer.write('\uFEFF');
+        writer.write(String.join(",", HEADERS));
+        writer.write("\r\n");
+
+        try {
+            queryRepository.forEach(kasaid, filter, dto -> {
+                try {
+                    writeCsvRow(writer, dto, lookups);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportXlsx(UUID kasaid, KasaHareketFilterDto filter, OutputStream out) throws IOException {
+        Lookups lookups = lookups();
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+            CellStyle amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+
+            XlsxWriter xlsx = new XlsxWriter(workbook, dateStyle, amountStyle);
+            queryRepository.forEach(kasaid, filter, dto -> xlsx.write(dto, lookups));
+
+            workbook.write(out);
+        } finally {
+            // close() SXSSF geçici dosyalarını da siler
+            workbook.close();
+        }
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    // daireno / ücret tipi kodu export başına iki küçük sorguyla; satır başına sorgu yok.
+    // Silinmiş daire / ücret tipleri de dahil, yoksa onlara bağlı eski hareketlerde ad boş kalır
+    private Lookups lookups() {
+        return new Lookups(toMap(daireRepository.findAllKodlar()), toMap(ucretTypeRepository.findAllKodlar()));
+    }
+
+    private static Map<UUID, String> toMap(List<IdKodView> rows) {
+        Map<UUID, String> map = new HashMap<>(rows.size() * 2);
+        for (IdKodView row : rows) {
+            map.put(row.getId(), row.getKod());
+        }
+        return map;
+    }
+
+    private static void writeCsvRow(Writer writer, KasaHareketResponseDto dto, Lookups lookups) throws IOException {
+        writer.write(dto.getId().toString());
+        writer.write(',');
+        writer.write(dto.getCreatedate() != null ? DATE_FORMAT.format(dto.getCreatedate()) : "");
+        writer.write(',');
+        writer.write(dto.getDirection().name());
+        writer.write(',');
+        writer.write(dto.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(dto.getDaireid() != null ? dto.getDaireid().toString() : "");
+        writer.write(',');
+        writeCsvText(writer, lookups.daireno(dto.getDaireid()));
+        writer.write(',');
+        writer.write(dto.getUcrettypeid() != null ? dto.getUcrettypeid().toString() : "");
+        writer.write(',');
+        writeCsvText(writer, lookups.ucretType(dto.getUcrettypeid()));
+        writer.write(',');
+        writeCsvText(writer, dto.getDescription());
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: virgül, tırnak veya satır sonu içeren alan tırnaklanır, içteki tırnak ikilenir
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private record Lookups(Map<UUID, String> daireler, Map<UUID, String> ucretTypes) {
+
+        String daireno(UUID daireid) {
+            return daireid != null ? daireler.get(daireid) : null;
+        }
+
+        String ucretType(UUID ucrettypeid) {
+            return ucrettypeid != null ? ucretTypes.get(ucrettypeid) : null;
+        }
+    }
+
+    // sayfa / satır sayacı; Excel sınırında yeni sayfa açar
+    private static final class XlsxWriter {
+
+        private final SXSSFWorkbook workbook;
+        private final CellStyle dateStyle;
+        private final CellStyle amountStyle;
+
+        private SXSSFSheet sheet;
+        private int rowIndex;
+
+        XlsxWriter(SXSSFWorkbook workbook, CellStyle dateStyle, CellStyle amountStyle) {
+            this.workbook = workbook;
+            this.dateStyle = dateStyle;
+            this.amountStyle = amountStyle;
+            newSheet();
+        }
+
+        void write(KasaHareketResponseDto dto, Lookups lookups) {
+            if (rowIndex > XLSX_MAX_ROWS_PER_SHEET) {
+                newSheet();
+            }
+            Row row = sheet.createRow(rowIndex++);
+
+            row.createCell(0).setCellValue(dto.getId().toString());
+            if (dto.getCreatedate() != null) {
+                Cell date = row.createCell(1);
+                date.setCellValue(dto.getCreatedate());
+                date.setCellStyle(dateStyle);
+            }
+            row.createCell(2).setCellValue(dto.getDirection().name());
+            Cell amount = row.createCell(3);
+            amount.setCellValue(dto.getAmount().doubleValue());
+            amount.setCellStyle(amountStyle);
+            setText(row, 4, dto.getDaireid() != null ? dto.getDaireid().toString() : null);
+            setText(row, 5, lookups.daireno(dto.getDaireid()));
+            setText(row, 6, dto.getUcrettypeid() != null ? dto.getUcrettypeid().toString() : null);
+            setText(row, 7, lookups.ucretType(dto.getUcrettypeid()));
+            setText(row, 8, dto.getDescription());
+        }
+
+        private void newSheet() {
+            sheet = workbook.createSheet("kasa_hareket_" + (workbook.getNumberOfSheets() + 1));
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
+            rowIndex = 1;
+        }
+
+        private static void setText(Row row, int column, String value) {
+            if (value != null) {
+                row.createCell(column).setCellValue(value);
+            }
+        }
+    }
+}
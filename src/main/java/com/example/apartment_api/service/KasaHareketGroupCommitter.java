@@ -0,0 +1,228 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.dto.KasaHareketRequestDto;
+import com.example.apartment_api.dto.KasaHareketResponseDto;
+import com.example.apartment_api.exception.BusinessException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// tekil POST /api/kasa-hareket için opt-in group-commit (kasa.group-commit.enabled).
+// Eşzamanlı istekler en fazla window-ms kadar kuyrukta bekler, tek flusher thread'i bunları
+// KasaHareketService.createGroup ile tek transaction'da yazar (kasa başına tek kilit, tek bakiye güncellemesi,
+// toplu insert, tek commit). Her çağıran kendi sonucunu senkron alır: başarılıysa create() ile aynı cevap,
+// reddedildiyse aynı BusinessException.
+@Service
+public class KasaHareketGroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(KasaHareketGroupCommitter.class);
+
+    private final KasaHareketService service;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final long waitTimeoutMs;
+
+    private final BlockingQueue<Pending> queue;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSize;
+    private final Timer queueWait;
+    private final Timer commitTimer;
+
+    private record Pending(KasaHareketRequestDto dto, CompletableFuture<KasaHareketResponseDto> future, long enqueuedAt) {
+    }
+
+    public KasaHareketGroupCommitter(KasaHareketService service,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${kasa.group-commit.enabled:false}") boolean enabled,
+                                     @Value("${kasa.group-commit.window-ms:5}") long windowMs,
+                                     @Value("${kasa.group-commit.max-batch:200}") int maxBatch,
+                                     @Value("${kasa.group-commit.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.service = service;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatch = maxBatch;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        // dolu kuyruk = flusher yetişemiyor; yeni istekler doğrudan create() yoluna düşer
+        this.queue = new LinkedBlockingQueue<>(maxBatch * 10);
+
+        this.batchSize = DistributionSummary.builder("kasa.group-commit.batch.size")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("kasa.group-commit.queue.wait")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("kasa.group-commit.commit")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.flusher = new Thread(this::flushLoop, "kasa-group-commit");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public KasaHareketResponseDto create(KasaHareketRequestDto dto) {
+
+        if (!enabled || !running) {
+            return service.create(dto);
+        }
+
+        Pending pending = new Pending(dto, new CompletableFuture<>(), System.nanoTime());
+        if (!queue.offer(pending)) {
+            return service.create(dto);
+        }
+
+        // offer, flusher döngüsünün bitişiyle yarışabilir: kapanışta kuyrukta kalan kayıt hiç yazılmaz
+        if (!running && queue.remove(pending)) {
+            return service.create(dto);
+        }
+
+        try {
+            return pending.future().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // hâlâ kuyruktaysa hiç yazılmadı, tekil yola düşülür
+            if (queue.remove(pending)) {
+                return service.create(dto);
+            }
+            throw inFlight();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (queue.remove(pending)) {
+                throw new IllegalStateException("kasa hareketi group-commit beklerken kesildi, kayıt yazılmadı", e);
+            }
+            throw inFlight();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+            if (flusher.isAlive()) {
+                log.warn("group-commit flusher 10 sn içinde durmadı");
+            }
+        }
+
+        // flusher'ın almadığı her kayıt burada tekil yazılır ya da hatayla döner; hiçbir çağıran cevapsız kalmaz
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (Pending pending : remaining) {
+            try {
+                pending.future().complete(service.create(pending.dto()));
+            } catch (RuntimeException e) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    // kayıt flusher'ın elindeki grupta: commit edilip edilmediği bilinmiyor, tekrar denemek çift kayıt yazabilir
+    private BusinessException inFlight() {
+        return new BusinessException("Kasa hareketi zaman aşımına uğradı; kaydın oluşup oluşmadığını kontrol edip tekrar deneyin");
+    }
+
+    // ============
+    // flusher
+    // ============
+
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // ilk istekten itibaren en fazla window kadar topla
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // kapanış: kuyrukta kalanlar yine de yazılır
+                queue.drainTo(batch, maxBatch - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+
+        long now = System.nanoTime();
+        for (Pending pending : batch) {
+            queueWait.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+
+        List<KasaHareketRequestDto> items = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            items.add(pending.dto());
+        }
+
+        List<KasaHareketService.GroupPostingResult> results;
+        try {
+            results = commitTimer.record(() -> service.createGroup(items));
+        } catch (RuntimeException e) {
+            // grup transaction'ı bütünüyle düştü (DB hatası vb.): bir kalemin hatası komşularını
+            // düşürmesin diye her kalem tek başına denenir
+            log.warn("group-commit batch ({} kalem) başarısız, tekil yazıma düşülüyor: {}", batch.size(), e.getMessage());
+            for (Pending pending : batch) {
+                try {
+                    pending.future().complete(service.create(pending.dto()));
+                } catch (RuntimeException single) {
+                    pending.future().completeExceptionally(single);
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            KasaHareketService.GroupPostingResult result = results.get(i);
+            if (result.error() == null) {
+                batch.get(i).future().complete(result.response());
+            } else {
+                batch.get(i).future().completeExceptionally(new BusinessException(result.error()));
+            }
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.dto.DaireResponseDto;
+import com.example.apartment_api.dto.KasaHareketImportErrorDto;
+import com.example.apartment_api.dto.KasaHareketImportResponseDto;
+import com.example.apartment_api.dto.KasaResponseDto;
+import com.example.apartment_api.dto.UcretTypeResponseDto;
+import com.example.apartment_api.entity.UuidV7Generator;
+import com.example.apartment_api.enums.KasaDirection;
+import com.example.apartment_api.exception.BusinessException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// geçmiş kasa hareketlerinin toplu yüklenmesi: CSV akış halinde okunur, satırlar doğrulanıp
+// PostgreSQL COPY ile yazılır. Bakiye ve günlük özet sonda, etkilenen kasalar için bir kez hesaplanır
+@Service
+public class KasaHareketImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(KasaHareketImportService.class);
+
+    private static final String COPY_SQL = """
+            copy kasa_hareket (id, createdate, delete, kasaid, daireid, ucrettypeid, amount, direction, description)
+            from stdin with (format csv)
+            """;
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    // bu kadar karakter birikince COPY'ye gönderilir
+    private static final int COPY_CHUNK_CHARS = 64 * 1024;
+
+    // amount numeric(12, 2)
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("9999999999.99");
+
+    private static final DateTimeFormatter SPACE_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]");
+
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final KasaService kasaService;
+    private final DaireService daireService;
+    private final UcretTypeService ucretTypeService;
+    private final KasaBakiyeService bakiyeService;
+    private final KasaGunlukOzetService gunlukOzetService;
+
+    public KasaHareketImportService(DataSource dataSource,
+                                    TransactionTemplate transactionTemplate,
+                                    KasaService kasaService,
+                                    DaireService daireService,
+                                    UcretTypeService ucretTypeService,
+                                    KasaBakiyeService bakiyeService,
+                                    KasaGunlukOzetService gunlukOzetService) {
+        this.dataSource = dataSource;
+        this.transactionTemplate = transactionTemplate;
+        this.kasaService = kasaService;
+        this.daireService = daireService;
+        this.ucretTypeService = ucretTypeService;
+        this.bakiyeService = bakiyeService;
+        this.gunlukOzetService = gunlukOzetService;
+    }
+
+    // CSV başlığı zorunlu; kolonlar: tarih, yon, tutar (zorunlu), kasaid, daireid, ucrettypeid, aciklama.
+    // kasaid kolonu yoksa defaultKasaid kullanılır. Ayırıcı ',' veya ';' (başlıktan anlaşılır).
+    // export'taki id / daireno / ucrettype kolonları yok sayılır, her satıra yeni id verilir.
+    // Hatalı satırlar atlanır ve raporlanır; failOnError ise tek hata tüm yüklemeyi geri alır.
+    public KasaHareketImportResponseDto importCsv(InputStream in, UUID defaultKasaid, boolean failOnError) {
+        long start = System.nanoTime();
+
+        ReferenceIds refs = referenceIds();
+        if (defaultKasaid != null && !refs.kasalar().contains(defaultKasaid)) {
+            throw new BusinessException("kasaid geçersiz (kasa bulunamadı veya arşivlenmiş)");
+        }
+
+        KasaHareketImportResponseDto result = new KasaHareketImportResponseDto();
+        Set<UUID> kasaids = new LinkedHashSet<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            load(in, defaultKasaid, refs, result, kasaids);
+
+            if (failOnError && result.getErrorCount() > 0) {
+                status.setRollbackOnly();
+                result.setRolledBack(true);
+                result.setImportedCount(0);
+                return;
+            }
+
+            // özetler aynı transaction'da: import görünür olduğunda bakiye de doğru
+            for (UUID kasaid : kasaids) {
+                bakiyeService.reconcile(kasaid);
+                gunlukOzetService.rebuild(kasaid);
+            }
+        });
+
+        long elapsedNanos = System.nanoTime() - start;
+        result.setKasaids(kasaids);
+        result.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.setRowsPerSecond(result.getImportedCount() * 1_000_000_000.0 / Math.max(elapsedNanos, 1));
+
+        log.info("Kasa hareket import: {} satır, {} yüklendi, {} hatalı, {} ms ({} satır/sn){}",
+                result.getTotalRows(), result.getImportedCount(), result.getErrorCount(), result.getDurationMs(),
+                String.format("%.0f", result.getRowsPerSecond()), result.isRolledBack() ? ", geri alındı" : "");
+        return result;
+    }
+
+    private void load(InputStream in,
+                      UUID defaultKasaid,
+                      ReferenceIds refs,
+                      KasaHareketImportResponseDto result,
+                      Set<UUID> kasaids) {
+
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024));
+        try {
+            copy(reader, defaultKasaid, refs, result, kasaids);
+        } catch (IOException | SQLException ex) {
+            // sürücü / SQL mesajı istemciye dönmez; ayrıntı logda
+            log.error("Kasa hareket import başarısız, satır {}", reader.recordLine(), ex);
+            throw new BusinessException("Import başarısız (satır " + reader.recordLine() + "), hiçbir kayıt yüklenmedi");
+        }
+    }
+
+    private void copy(CsvReader reader,
+                      UUID defaultKasaid,
+                      ReferenceIds refs,
+                      KasaHareketImportResponseDto result,
+                      Set<UUID> kasaids) throws IOException, SQLException {
+
+        Columns columns = Columns.of(reader.readHeader());
+        if (columns.kasaid < 0 && defaultKasaid == null) {
+            throw new BusinessException("CSV'de kasaid kolonu yok; kasaid parametresi verilmeli");
+        }
+
+        // transaction'ın bağlantısı (JpaTransactionManager bağlar)
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder chunk = new StringBuilder(COPY_CHUNK_CHARS + 1024);
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                result.setTotalRows(result.getTotalRows() + 1);
+                try {
+                    UUID kasaid = appendCopyRow(chunk, record, columns, defaultKasaid, refs);
+                    kasaids.add(kasaid);
+                    result.setImportedCount(result.getImportedCount() + 1);
+                } catch (IllegalArgumentException | DateTimeParseException ex) {
+                    result.setErrorCount(result.getErrorCount() + 1);
+                    if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                        result.getErrors().add(new KasaHareketImportErrorDto(reader.recordLine(), ex.getMessage()));
+                    }
+                }
+
+                if (chunk.length() >= COPY_CHUNK_CHARS) {
+                    writeChunk(copy, chunk);
+                }
+            }
+            writeChunk(copy, chunk);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    // satırı doğrular ve COPY csv formatında ekler; hata mesajı IllegalArgumentException ile döner
+    private static UUID appendCopyRow(StringBuilder chunk,
+                                      List<String> record,
+                                      Columns columns,
+                                      UUID defaultKasaid,
+                                      ReferenceIds refs) {
+
+        String kasaText = columns.value(record, columns.kasaid);
+        UUID kasaid = kasaText != null ? parseUuid(kasaText, "kasaid") : defaultKasaid;
+        if (kasaid == null || !refs.kasalar().contains(kasaid)) {
+            throw new IllegalArgumentException("kasaid geçersiz (kasa bulunamadı veya arşivlenmiş)");
+        }
+
+        String daireText = columns.value(record, columns.daireid);
+        UUID daireid = daireText != null ? parseUuid(daireText, "daireid") : null;
+        if (daireid != null && !refs.daireler().contains(daireid)) {
+            throw new IllegalArgumentException("daireid geçersiz (aktif daire bulunamadı)");
+        }
+
+        String ucretText = columns.value(record, columns.ucrettypeid);
+        UUID ucrettypeid = ucretText != null ? parseUuid(ucretText, "ucrettypeid") : null;
+        if (ucrettypeid != null && !refs.ucretTypes().contains(ucrettypeid)) {
+            throw new IllegalArgumentException("ucrettypeid geçersiz (aktif ücret tipi bulunamadı)");
+        }
+
+        LocalDateTime tarih = parseDate(required(record, columns, columns.tarih, "tarih"));
+
+        KasaDirection direction;
+        try {
+            direction = KasaDirection.valueOf(required(record, columns, columns.yon, "yon").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("yon IN veya OUT olmalı");
+        }
+
+        BigDecimal amount = parseAmount(required(record, columns, columns.tutar, "tutar"));
+        if (amount.signum() <= 0 || amount.compareTo(MAX_AMOUNT) > 0 || amount.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("tutar 0'dan büyük, en fazla 2 ondalıklı ve " + MAX_AMOUNT + " altında olmalı");
+        }
+
+        String aciklama = columns.value(record, columns.aciklama);
+
+        chunk.append(UuidV7Generator.next()).append(',')
+                .append(tarih).append(",f,")
+                .append(kasaid).append(',')
+                .append(daireid != null ? daireid.toString() : "").append(',')
+                .append(ucrettypeid != null ? ucrettypeid.toString() : "").append(',')
+                .append(amount.toPlainString()).append(',')
+                .append(direction.name()).append(',');
+        if (aciklama != null) {
+            chunk.append('"').append(aciklama.replace("\"", "\"\"")).append('"');
+        }
+        chunk.append('\n');
+
+        return kasaid;
+    }
+
+    private static void writeChunk(CopyIn copy, StringBuilder chunk) throws SQLException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    // doğrulama için id kümeleri, cache'li referans listelerinden bir kez
+    private ReferenceIds referenceIds() {
+        Set<UUID> kasalar = new HashSet<>();
+        for (KasaResponseDto k : kasaService.getAllActive()) {
+            if (kasaService.isWritable(k.getId())) {
+                kasalar.add(k.getId());
+            }
+        }
+        Set<UUID> daireler = new HashSet<>();
+        for (DaireResponseDto d : daireService.getAllActive()) {
+            daireler.add(d.getId());
+        }
+        Set<UUID> ucretTypes = new HashSet<>();
+        for (UcretTypeResponseDto u : ucretTypeService.getAllActive()) {
+            ucretTypes.add(u.getId());
+        }
+        return new ReferenceIds(kasalar, daireler, ucretTypes);
+    }
+
+    private static String required(List<String> record, Columns columns, int index, String name) {
+        String value = columns.value(record, index);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " boş olamaz");
+        }
+        return value;
+    }
+
+    private static UUID parseUuid(String value, String name) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(name + " UUID olmalı");
+        }
+    }
+
+    // 2024-03-01T10:00:00 / 2024-03-01 10:00[:00] (export formatı) / 2024-03-01
+    // "1.234,56" (Excel TR, ';' ayırıcılı dosyalar), "1234,56", "1234.56" ve "1,234.56" kabul edilir:
+    // en sağdaki ayırıcı ondalık, diğeri binlik ayırıcıdır. "1.234" gibi belirsiz değer
+    // 3 ondalıklı sayılır ve tutar kuralına takılır; sessizce yanlış okunmaz
+    private static BigDecimal parseAmount(String value) {
+        int comma = value.lastIndexOf(',');
+        int dot = value.lastIndexOf('.');
+        String normalized;
+        if (comma > dot) {
+            normalized = value.replace(".", "").replace(',', '.');
+        } else if (comma >= 0) {
+            normalized = value.replace(",", "");
+        } else {
+            normalized = value;
+        }
+        try {
+            return new BigDecimal(normalized);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("tutar sayı olmalı");
+        }
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            if (value.indexOf('T') > 0) {
+                return LocalDateTime.parse(value);
+            }
+            return LocalDateTime.parse(value, SPACE_DATE_TIME);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("tarih formatı geçersiz: " + value);
+        }
+    }
+
+    private record ReferenceIds(Set<UUID> kasalar, Set<UUID> daireler, Set<UUID> ucretTypes) {
+    }
+
+    // başlıktaki kolon sırası
+    private static final class Columns {
+
+        private int kasaid = -1;
+        private int tarih = -1;
+        private int yon = -1;
+        private int tutar = -1;
+        private int daireid = -1;
+        private int ucrettypeid = -1;
+        private int aciklama = -1;
+
+        static Columns of(List<String> header) {
+            if (header == null) {
+                throw new BusinessException("CSV boş");
+            }
+            Columns c = new Columns();
+            for (int i = 0; i < header.size(); i++) {
+                switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "kasaid" -> c.kasaid = i;
+                    case "tarih" -> c.tarih = i;
+                    case "yon" -> c.yon = i;
+                    case "tutar" -> c.tutar = i;
+                    case "daireid" -> c.daireid = i;
+                    case "ucrettypeid" -> c.ucrettypeid = i;
+                    case "aciklama" -> c.aciklama = i;
+                    default -> {
+                        // export'tan gelen id / daireno / ucrettype vb. yok sayılır
+                    }
+                }
+            }
+            if (c.tarih < 0 || c.yon < 0 || c.tutar < 0) {
+                throw new BusinessException("CSV başlığında tarih, yon ve tutar kolonları zorunlu");
+            }
+            return c;
+        }
+
+        // boş alan null
+        String value(List<String> record, int index) {
+            if (index < 0 || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    // RFC 4180 okuyucu: tırnaklı alanlar ayırıcı / satır sonu içerebilir, "" kaçışı
+    private static final class CsvReader {
+
+        private final Reader in;
+        private char separator = ',';
+        private int pushback = -2;
+        private long line = 1;
+        private long recordLine;
+
+        CsvReader(Reader in) {
+            this.in = in;
+        }
+
+        long recordLine() {
+            return recordLine;
+        }
+
+        List<String> readHeader() throws IOException {
+            int first = read();
+            if (first != '\uFEFF') {
+                pushback = first;
+            }
+            List<String> header = next();
+            if (header != null && header.size() == 1 && header.get(0).indexOf(';') >= 0) {
+                separator = ';';
+                header = List.of(header.get(0).split(";", -1));
+            }
+            return header;
+        }
+
+        // sonraki kayıt; dosya sonunda null. Boş satırlar atlanır
+        List<String> next() throws IOException {
+            while (true) {
+                recordLine = line;
+                List<String> record = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                boolean any = false;
+                int c;
+
+                while ((c = read()) != -1) {
+                    any = true;
+                    if (quoted) {
+                        if (c == '"') {
+                            int n = read();
+                            if (n == '"') {
+                                field.append('"');
+                            } else {
+                                quoted = false;
+                                pushback = n;
+                            }
+                        } else {
+                            if (c == '\n') {
+                                line++;
+                            }
+                            field.append((char) c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == separator) {
+                        record.add(field.toString());
+                        field.setLength(0);
+                    } else if (c == '\r') {
+                        // \r\n: \n'de biter
+                    } else if (c == '\n') {
+                        line++;
+                        break;
+                    } else {
+                        field.append((char) c);
+                    }
+                }
+
+                if (!any) {
+                    return null;
+                }
+                record.add(field.toString());
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    if (c == -1) {
+                        return null;
+                    }
+                    continue;
+                }
+                return record;
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushback != -2) {
+                int c = pushback;
+                pushback = -2;
+                return c;
+            }
+            return in.read();
+        }
+    }
+}
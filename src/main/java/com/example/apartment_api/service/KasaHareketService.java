@@ -1,61 +1,263 @@
 package com.example.apartment_api.service;
 
 import com.example.apartment_api.dto.*;
+import com.example.apartment_api.entity.KasaBakiye;
 import com.example.apartment_api.entity.KasaHareket;
 import com.example.apartment_api.enums.KasaDirection;
 import com.example.apartment_api.exception.BusinessException;
 import com.example.apartment_api.exception.ResourceNotFoundException;
-import com.example.apartment_api.repository.DailySumView;
+import com.example.apartment_api.repository.DailyDirectionSumView;
+import com.example.apartment_api.repository.KasaBakiyeRepository;
+import com.example.apartment_api.repository.KasaGunlukOzetRepository;
+import com.example.apartment_api.repository.KasaHareketJdbcRepository;
+import com.example.apartment_api.repository.KasaHareketQueryRepository;
 import com.example.apartment_api.repository.KasaHareketRepository;
+import com.example.apartment_api.repository.SilinenHareketRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
+import org.postgresql.util.PSQLException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import com.example.apartment_api.dto.KasaAylikOzetResponseDto;
-import com.example.apartment_api.dto.KasaGunlukOzetDto;
-
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-
-import org.springframework.beans.factory.annotation.Value;
+import java.util.function.Supplier;
 
 @Service
 public class KasaHareketService {
 
     private final KasaHareketRepository repository;
+    private final KasaBakiyeRepository bakiyeRepository;
+    private final KasaGunlukOzetRepository gunlukOzetRepository;
+    private final KasaHareketQueryRepository queryRepository;
+    private final KasaHareketJdbcRepository jdbcRepository;
+    private final KasaService kasaService;
+    private final KasaRaporService raporService;
+    private final ObjectMapper objectMapper;
 
-    public KasaHareketService(KasaHareketRepository repository) {
-        this.repository = repository;
-    }
     @Value("${kasa.max-negative:-5000}")
     private BigDecimal maxNegative;
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String INVALID_KASA_MESSAGE = "kasaid geçersiz (kasa bulunamadı veya arşivlenmiş)";
+
+    public KasaHareketService(KasaHareketRepository repository,
+                              KasaBakiyeRepository bakiyeRepository,
+                              KasaGunlukOzetRepository gunlukOzetRepository,
+                              KasaHareketQueryRepository queryRepository,
+                              KasaHareketJdbcRepository jdbcRepository,
+                              KasaService kasaService,
+                              KasaRaporService raporService,
+                              ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.bakiyeRepository = bakiyeRepository;
+        this.gunlukOzetRepository = gunlukOzetRepository;
+        this.queryRepository = queryRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.kasaService = kasaService;
+        this.raporService = raporService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional
     public KasaHareketResponseDto create(@Valid KasaHareketRequestDto dto) {
 
+        // kasa_hareket kasaid ile partition'lı: kasası olmayan / arşivlenmiş kasaya kayıt yazılamaz
+        if (!kasaService.isWritable(dto.getKasaid())) {
+            throw new BusinessException(INVALID_KASA_MESSAGE);
+        }
+
         // 1) OUT ise bakiye kontrol
+        // kasa_bakiye satırı FOR UPDATE kilitlenir: aynı kasaya gelen OUT'lar sırayla,
+        // farklı kasalar paralel ilerler. Kilit commit'e kadar tutulur, böylece kontrol ile insert arasına
+        // başka bir çıkış giremez.
         if (dto.getDirection() == KasaDirection.OUT) {
 
-            BigDecimal totalIn = repository.sumIn(dto.getKasaid());
-            BigDecimal totalOut = repository.sumOut(dto.getKasaid());
-            BigDecimal currentBalance = totalIn.subtract(totalOut);
+            bakiyeRepository.ensureExists(dto.getKasaid());
+            BigDecimal currentBalance = bakiyeRepository.findByKasaidForUpdate(dto.getKasaid())
+                    .map(KasaBakiye::getBalance)
+                    .orElse(BigDecimal.ZERO);
 
             BigDecimal newBalance = currentBalance.subtract(dto.getAmount());
 
             // yeni bakiye max negatif limitin altına düşüyor mu?
             // örn maxNegative = -5000
             if (newBalance.compareTo(maxNegative) < 0) {
-                throw new BusinessException(
-                        "Negatif limit aşıldı. Mevcut bakiye: " + currentBalance +
-                                ", çıkış tutarı: " + dto.getAmount() +
-                                ", yeni bakiye: " + newBalance +
-                                ", izin verilen min bakiye: " + maxNegative
-                );
+                throw new BusinessException(negativeLimitMessage(currentBalance, dto.getAmount(), newBalance));
+            }
+        }
+
+
+        // 2) kayıt (flush burada: partition hatası commit'te değil rejectArchived içinde yakalanır)
+        KasaHareket saved = rejectArchived(() -> repository.saveAndFlush(newHareket(dto, LocalDateTime.now())));
+
+        // 3) bakiye ve günlük özet aynı transaction içinde
+        boolean in = saved.getDirection() == KasaDirection.IN;
+        bakiyeRepository.applyPosting(
+                saved.getKasaid(),
+                in ? saved.getAmount() : BigDecimal.ZERO,
+                in ? BigDecimal.ZERO : saved.getAmount(),
+                in ? 1 : 0,
+                in ? 0 : 1,
+                saved.getCreatedate());
+        gunlukOzetRepository.applyPosting(
+                saved.getKasaid(),
+                saved.getCreatedate().toLocalDate(),
+                saved.getDirection().name(),
+                saved.getAmount(),
+                1);
+
+        return mapToResponse(saved);
+    }
+
+    // toplu kayıt (aylık aidat vb.): tek transaction, kasa başına tek kilit ve tek bakiye güncellemesi.
+    // Kalemler her kasa için gönderildiği sırayla yürüyen bakiyeye uygulanır; limiti aşan OUT kalemi
+    // reddedilir, diğerleri kaydedilir. Insert'ler hibernate.jdbc.batch_size ile toplu gider.
+    @Transactional
+    public KasaHareketBatchResponseDto createBatch(@Valid KasaHareketBatchRequestDto request) {
+
+        List<KasaHareketRequestDto> items = request.getItems();
+        BatchPosting posting = postBatch(items);
+
+        KasaHareketBatchItemResponseDto[] results = new KasaHareketBatchItemResponseDto[items.size()];
+        int succeeded = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (posting.saved()[i] != null) {
+                results[i] = KasaHareketBatchItemResponseDto.succeeded(i, posting.saved()[i].getId());
+                succeeded++;
+            } else {
+                results[i] = KasaHareketBatchItemResponseDto.failed(i, posting.errors()[i]);
             }
         }
 
+        KasaHareketBatchResponseDto response = new KasaHareketBatchResponseDto();
+        response.setTotal(items.size());
+        response.setSucceeded(succeeded);
+        response.setFailed(items.size() - succeeded);
+        response.setResults(Arrays.asList(results));
+        return response;
+    }
+
+    // group-commit (KasaHareketGroupCommitter): createBatch ile aynı çekirdek, ama her kalem kendi
+    // create() cevabını ya da ret mesajını alır
+    @Transactional
+    public List<GroupPostingResult> createGroup(List<KasaHareketRequestDto> items) {
+
+        BatchPosting posting = postBatch(items);
+
+        List<GroupPostingResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            KasaHareket saved = posting.saved()[i];
+            results.add(saved != null
+                    ? new GroupPostingResult(mapToResponse(saved), null)
+                    : new GroupPostingResult(null, posting.errors()[i]));
+        }
+        return results;
+    }
 
-        // 2) kayıt
+    public record GroupPostingResult(KasaHareketResponseDto response, String error) {
+    }
+
+    // ============
+    // batch core
+    // ============
+
+    // kalem sırasıyla: kaydedilen entity ya da (kaydedilmediyse) ret mesajı
+    private record BatchPosting(KasaHareket[] saved, String[] errors) {
+    }
+
+    // çağıranın transaction'ı içinde çalışır
+    private BatchPosting postBatch(List<KasaHareketRequestDto> items) {
+
+        KasaHareket[] saved = new KasaHareket[items.size()];
+        String[] errors = new String[items.size()];
+
+        // kasaid sıralı kilitlenir ki eşzamanlı batch'ler birbirini deadlock'a sokmasın
+        Map<UUID, List<Integer>> byKasa = new TreeMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            byKasa.computeIfAbsent(items.get(i).getKasaid(), k -> new ArrayList<>()).add(i);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<KasaHareket> toSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+
+        for (Map.Entry<UUID, List<Integer>> entry : byKasa.entrySet()) {
+            UUID kasaid = entry.getKey();
+
+            if (!kasaService.isWritable(kasaid)) {
+                for (int index : entry.getValue()) {
+                    errors[index] = INVALID_KASA_MESSAGE;
+                }
+                continue;
+            }
+
+            bakiyeRepository.ensureExists(kasaid);
+            BigDecimal balance = bakiyeRepository.findByKasaidForUpdate(kasaid)
+                    .map(KasaBakiye::getBalance)
+                    .orElse(BigDecimal.ZERO);
+
+            BigDecimal inAmount = BigDecimal.ZERO;
+            BigDecimal outAmount = BigDecimal.ZERO;
+            long inCount = 0;
+            long outCount = 0;
+
+            for (int index : entry.getValue()) {
+                KasaHareketRequestDto dto = items.get(index);
+
+                if (dto.getDirection() == KasaDirection.OUT) {
+                    BigDecimal newBalance = balance.subtract(dto.getAmount());
+                    if (newBalance.compareTo(maxNegative) < 0) {
+                        errors[index] = negativeLimitMessage(balance, dto.getAmount(), newBalance);
+                        continue;
+                    }
+                    balance = newBalance;
+                    outAmount = outAmount.add(dto.getAmount());
+                    outCount++;
+                } else {
+                    balance = balance.add(dto.getAmount());
+                    inAmount = inAmount.add(dto.getAmount());
+                    inCount++;
+                }
+
+                toSave.add(newHareket(dto, now));
+                savedIndexes.add(index);
+            }
+
+            if (inCount + outCount > 0) {
+                bakiyeRepository.applyPosting(kasaid, inAmount, outAmount, inCount, outCount, now);
+            }
+            // batch'in tamamı aynı güne yazılır -> kasa ve yön başına tek özet satırı
+            if (inCount > 0) {
+                gunlukOzetRepository.applyPosting(kasaid, now.toLocalDate(), KasaDirection.IN.name(), inAmount, inCount);
+            }
+            if (outCount > 0) {
+                gunlukOzetRepository.applyPosting(kasaid, now.toLocalDate(), KasaDirection.OUT.name(), outAmount, outCount);
+            }
+        }
+
+        List<KasaHareket> persisted = rejectArchived(() -> {
+            List<KasaHareket> all = repository.saveAll(toSave);
+            repository.flush();
+            return all;
+        });
+        for (int i = 0; i < persisted.size(); i++) {
+            saved[savedIndexes.get(i)] = persisted.get(i);
+        }
+        return new BatchPosting(saved, errors);
+    }
+
+    private KasaHareket newHareket(KasaHareketRequestDto dto, LocalDateTime createdate) {
         KasaHareket hareket = new KasaHareket();
         hareket.setKasaid(dto.getKasaid());
         hareket.setDaireid(dto.getDaireid());
@@ -63,10 +265,32 @@ public class KasaHareketService {
         hareket.setAmount(dto.getAmount());
         hareket.setDirection(dto.getDirection());
         hareket.setDescription(dto.getDescription());
-        hareket.setCreatedate(LocalDateTime.now());
+        hareket.setCreatedate(createdate);
         hareket.setDeleted(false);
+        return hareket;
+    }
 
-        return mapToResponse(repository.save(hareket));
+    // isWritable cache'i başka bir instance'ta arşivlemeden sonra da true kalabilir; detach edilmiş kasanın
+    // satırı için PostgreSQL "no partition of relation ... found for row" (23514, constraint adı yok) döner
+    private <T> T rejectArchived(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataAccessException e) {
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof PSQLException pe && "23514".equals(pe.getSQLState())
+                        && (pe.getServerErrorMessage() == null || pe.getServerErrorMessage().getConstraint() == null)) {
+                    throw new BusinessException(INVALID_KASA_MESSAGE);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private String negativeLimitMessage(BigDecimal currentBalance, BigDecimal amount, BigDecimal newBalance) {
+        return "Negatif limit aşıldı. Mevcut bakiye: " + currentBalance +
+                ", çıkış tutarı: " + amount +
+                ", yeni bakiye: " + newBalance +
+                ", izin verilen min bakiye: " + maxNegative;
     }
 
     private KasaHareketResponseDto mapToResponse(KasaHareket e) {
@@ -78,79 +302,208 @@ public class KasaHareketService {
         dto.setAmount(e.getAmount());
         dto.setDirection(e.getDirection());
         dto.setDescription(e.getDescription());
+        dto.setCreatedate(e.getCreatedate());
         return dto;
     }
 
 
+    // DELETE (soft): tek UPDATE ... RETURNING, entity yüklenmez; dönen satır yoksa kayıt yok ya da zaten silinmiş
+    @Transactional
     public void delete(UUID id) {
-        KasaHareket hareket = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Kasa hareket not found"));
+        List<SilinenHareketRow> silinen = jdbcRepository.softDelete(List.of(id), LocalDateTime.now());
+        if (silinen.isEmpty()) {
+            throw new ResourceNotFoundException("Kasa hareket not found");
+        }
+        revertDeleted(silinen);
+    }
 
-        hareket.setDeleted(true);
-        hareket.setEnddate(LocalDateTime.now());
-        repository.save(hareket);
+    // BULK DELETE (soft): tek statement; özetler kasa başına tek güncellemeyle geri alınır
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        List<SilinenHareketRow> silinen = jdbcRepository.softDelete(unique, LocalDateTime.now());
+        revertDeleted(silinen);
+        return new BulkDeleteResponseDto(unique.size(), silinen.size());
     }
 
-    public List<KasaHareketResponseDto> getByKasa(UUID kasaid) {
+    // silinen hareketlerin etkisini kasa_bakiye ve kasa_gunluk_ozet'ten geri alır.
+    // kasaid sıralı: eşzamanlı toplu silmeler kasa_bakiye satırlarını aynı sırada kilitler
+    private void revertDeleted(List<SilinenHareketRow> silinen) {
+
+        Map<UUID, List<SilinenHareketRow>> byKasa = new TreeMap<>();
+        for (SilinenHareketRow row : silinen) {
+            byKasa.computeIfAbsent(row.kasaid(), k -> new ArrayList<>()).add(row);
+        }
 
-        return repository.findByKasaidAndDeletedFalse(kasaid)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        record GunYon(LocalDate gun, KasaDirection direction) {
+        }
+
+        for (Map.Entry<UUID, List<SilinenHareketRow>> entry : byKasa.entrySet()) {
+            UUID kasaid = entry.getKey();
+
+            BigDecimal inAmount = BigDecimal.ZERO;
+            BigDecimal outAmount = BigDecimal.ZERO;
+            long inCount = 0;
+            long outCount = 0;
+            LocalDateTime maxCreatedate = null;
+            Map<GunYon, BigDecimal> gunTutar = new LinkedHashMap<>();
+            Map<GunYon, Long> gunAdet = new LinkedHashMap<>();
+            Set<Integer> years = new TreeSet<>();
+
+            for (SilinenHareketRow row : entry.getValue()) {
+                if (row.direction() == KasaDirection.IN) {
+                    inAmount = inAmount.add(row.amount());
+                    inCount++;
+                } else {
+                    outAmount = outAmount.add(row.amount());
+                    outCount++;
+                }
+
+                GunYon key = new GunYon(row.createdate().toLocalDate(), row.direction());
+                gunTutar.merge(key, row.amount(), BigDecimal::add);
+                gunAdet.merge(key, 1L, Long::sum);
+
+                years.add(row.createdate().getYear());
+                if (maxCreatedate == null || row.createdate().isAfter(maxCreatedate)) {
+                    maxCreatedate = row.createdate();
+                }
+            }
+
+            bakiyeRepository.revertPosting(kasaid, inAmount, outAmount, inCount, outCount);
+            for (Map.Entry<GunYon, BigDecimal> gun : gunTutar.entrySet()) {
+                gunlukOzetRepository.revertPosting(
+                        kasaid, gun.getKey().gun(), gun.getKey().direction(), gun.getValue(), gunAdet.get(gun.getKey()));
+            }
+
+            // kapanmış yılın cache'lenmiş yıllık raporu artık eski
+            for (int year : years) {
+                if (KasaRaporService.isClosedYear(year)) {
+                    raporService.evictYear(kasaid, year);
+                }
+            }
+
+            // silinenler arasında son hareket varsa son işlem tarihini yeniden bul.
+            // create ile aynı satır kilidi: eşzamanlı bir kayıt last_transaction_date'i arada değiştiremez
+            LocalDateTime silinenSon = maxCreatedate;
+            boolean wasLast = bakiyeRepository.findByKasaidForUpdate(kasaid)
+                    .map(b -> b.getLastTransactionDate() != null && !silinenSon.isBefore(b.getLastTransactionDate()))
+                    .orElse(false);
+            if (wasLast) {
+                bakiyeRepository.refreshLastTransactionDate(kasaid);
+            }
+        }
     }
 
-    public KasaOzetResponseDto getSummary(UUID kasaid) {
+    public List<KasaHareketResponseDto> getByKasa(UUID kasaid) {
+        return repository.findResponsesByKasaid(kasaid);
+    }
 
-        BigDecimal totalIn = repository.sumIn(kasaid);
-        BigDecimal totalOut = repository.sumOut(kasaid);
-        BigDecimal balance = totalIn.subtract(totalOut);
+    // keyset sayfalama: (createdate, id) > (afterDate, afterId); offset yok, her sayfa aynı maliyette
+    public KasaHareketPageResponseDto getPageByKasa(UUID kasaid,
+                                                    KasaHareketFilterDto filter,
+                                                    LocalDateTime afterDate,
+                                                    UUID afterId,
+                                                    int limit) {
 
-        long hareketCount = repository.countActiveByKasa(kasaid);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessException("limit 1 ile " + MAX_PAGE_SIZE + " arasında olmalı");
+        }
+
+        // bir fazlası okunur: sonraki sayfa var mı anlamak için
+        List<KasaHareketResponseDto> rows = queryRepository.findPage(kasaid, filter, afterDate, afterId, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<KasaHareketResponseDto> items = hasMore ? rows.subList(0, limit) : rows;
+
+        KasaHareketPageResponseDto page = new KasaHareketPageResponseDto();
+        page.setItems(items);
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            KasaHareketResponseDto last = items.get(items.size() - 1);
+            page.setNextAfterDate(last.getCreatedate());
+            page.setNextAfterId(last.getId());
+        }
+        return page;
+    }
+
+    // NDJSON: her satır bir hareket. Kayıtlar cursor'dan okundukça yazılır, liste oluşturulmaz.
+    // readOnly transaction, PostgreSQL'in fetch size'a göre cursor açması için gerekli.
+    @Transactional(readOnly = true)
+    public void streamByKasa(UUID kasaid, KasaHareketFilterDto filter, OutputStream out) throws IOException {
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        try {
+            queryRepository.forEach(kasaid, filter, dto -> {
+                try {
+                    generator.writeObject(dto);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
 
-        long inCount = repository.countByKasaidAndDeletedFalseAndDirection(kasaid, KasaDirection.IN);
-        long outCount = repository.countByKasaidAndDeletedFalseAndDirection(kasaid, KasaDirection.OUT);
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    // tek satır PK okuması (kasa_bakiye); sorgu fan-out'u gerekmez
+    @Timed(value = "kasa.summary", extraTags = {"type", "all-time"})
+    public KasaOzetResponseDto getSummary(UUID kasaid) {
 
-        LocalDateTime lastTransactionDate =
-                repository.findLastTransactionDate(kasaid);
+        // hareket yoksa kasa_bakiye satırı da yoktur -> sıfır özet
+        KasaBakiye bakiye = bakiyeRepository.findById(kasaid).orElseGet(KasaBakiye::new);
 
         KasaOzetResponseDto dto = new KasaOzetResponseDto();
         dto.setKasaid(kasaid);
-        dto.setTotalIn(totalIn);
-        dto.setTotalOut(totalOut);
-        dto.setBalance(balance);
-        dto.setHareketCount(hareketCount);
-        dto.setInCount(inCount);
-        dto.setOutCount(outCount);
-        dto.setLastTransactionDate(lastTransactionDate);
+        dto.setTotalIn(bakiye.getTotalIn());
+        dto.setTotalOut(bakiye.getTotalOut());
+        dto.setBalance(bakiye.getBalance());
+        dto.setHareketCount(bakiye.getInCount() + bakiye.getOutCount());
+        dto.setInCount(bakiye.getInCount());
+        dto.setOutCount(bakiye.getOutCount());
+        dto.setLastTransactionDate(bakiye.getLastTransactionDate());
 
         return dto;
     }
 
+    @Timed(value = "kasa.summary", extraTags = {"type", "monthly"})
     public KasaAylikOzetResponseDto getMonthlySummary(UUID kasaid, int year, int month) {
 
-        LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
-        LocalDateTime end = start.plusMonths(1);
+        LocalDate start = LocalDate.of(year, month, 1);
+        LocalDate end = start.plusMonths(1);
 
-        BigDecimal totalIn = repository.sumInBetween(kasaid, start, end);
-        BigDecimal totalOut = repository.sumOutBetween(kasaid, start, end);
-        BigDecimal balance = totalIn.subtract(totalOut);
+        // kasa_gunluk_ozet'ten okunur: maliyet hareket sayısına değil gün sayısına bağlı.
+        // aylık toplamlar günlük satırlardan Java'da toplanır
+        List<DailyDirectionSumView> rows = gunlukOzetRepository.dailyTotals(kasaid, start, end);
 
-        long hareketCount = repository.countBetween(kasaid, start, end);
-        long inCount = repository.countInBetween(kasaid, start, end);
-        long outCount = repository.countOutBetween(kasaid, start, end);
+        BigDecimal totalIn = BigDecimal.ZERO;
+        BigDecimal totalOut = BigDecimal.ZERO;
+        long inCount = 0;
+        long outCount = 0;
 
         // ---- daily breakdown (eksik günleri 0 yapacağız)
-        List<DailySumView> inRows = repository.dailyIn(kasaid, start, end);
-        List<DailySumView> outRows = repository.dailyOut(kasaid, start, end);
-
         Map<LocalDate, BigDecimal> inMap = new HashMap<>();
-        for (DailySumView r : inRows) inMap.put(r.getDay(), r.getTotal());
-
         Map<LocalDate, BigDecimal> outMap = new HashMap<>();
-        for (DailySumView r : outRows) outMap.put(r.getDay(), r.getTotal());
 
-        LocalDate startDay = LocalDate.of(year, month, 1);
-        int daysInMonth = startDay.lengthOfMonth();
+        for (DailyDirectionSumView r : rows) {
+            if (r.getDirection() == KasaDirection.IN) {
+                inMap.put(r.getDay(), r.getTotal());
+                totalIn = totalIn.add(r.getTotal());
+                inCount += r.getCount();
+            } else {
+                outMap.put(r.getDay(), r.getTotal());
+                totalOut = totalOut.add(r.getTotal());
+                outCount += r.getCount();
+            }
+        }
+
+        BigDecimal balance = totalIn.subtract(totalOut);
+        long hareketCount = inCount + outCount;
+
+        int daysInMonth = start.lengthOfMonth();
 
         List<KasaGunlukOzetDto> daily = new ArrayList<>();
         for (int d = 1; d <= daysInMonth; d++) {
@@ -0,0 +1,125 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.config.CacheConfig;
+import com.example.apartment_api.dto.KasaAylikToplamDto;
+import com.example.apartment_api.dto.KasaYilKarsilastirmaDto;
+import com.example.apartment_api.dto.KasaYillikOzetResponseDto;
+import com.example.apartment_api.enums.KasaDirection;
+import com.example.apartment_api.repository.KasaBakiyeRepository;
+import com.example.apartment_api.repository.KasaGunlukOzetRepository;
+import com.example.apartment_api.repository.KasaYilOzetView;
+import com.example.apartment_api.repository.MonthlyDirectionSumView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// yıllık ve yıllar arası kasa raporları (kasa_gunluk_ozet / kasa_bakiye üzerinden)
+@Service
+public class KasaRaporService {
+
+    private final KasaGunlukOzetRepository gunlukOzetRepository;
+    private final KasaBakiyeRepository bakiyeRepository;
+
+    public KasaRaporService(KasaGunlukOzetRepository gunlukOzetRepository,
+                            KasaBakiyeRepository bakiyeRepository) {
+        this.gunlukOzetRepository = gunlukOzetRepository;
+        this.bakiyeRepository = bakiyeRepository;
+    }
+
+    // kapanmış yıl (yıl < bu yıl) değişmez -> kalıcı cache; içinde bulunulan yıl her seferinde okunur
+    @Timed(value = "kasa.summary", extraTags = {"type", "yearly"})
+    @Cacheable(cacheNames = CacheConfig.KASA_YILLIK_OZET,
+            key = "#kasaid + '-' + #year",
+            condition = "#year < T(java.time.Year).now().getValue()")
+    public KasaYillikOzetResponseDto getYearlySummary(UUID kasaid, int year) {
+
+        LocalDate start = LocalDate.of(year, 1, 1);
+        List<MonthlyDirectionSumView> rows = gunlukOzetRepository.monthlyTotals(kasaid, start, start.plusYears(1));
+
+        List<KasaAylikToplamDto> months = new ArrayList<>();
+        for (int m = 1; m <= 12; m++) {
+            KasaAylikToplamDto item = new KasaAylikToplamDto();
+            item.setMonth(m);
+            item.setTotalIn(BigDecimal.ZERO);
+            item.setTotalOut(BigDecimal.ZERO);
+            months.add(item);
+        }
+
+        BigDecimal totalIn = BigDecimal.ZERO;
+        BigDecimal totalOut = BigDecimal.ZERO;
+        long inCount = 0;
+        long outCount = 0;
+
+        for (MonthlyDirectionSumView r : rows) {
+            KasaAylikToplamDto item = months.get(r.getMonth() - 1);
+            if (r.getDirection() == KasaDirection.IN) {
+                item.setTotalIn(r.getTotal());
+                item.setInCount(r.getCount());
+                totalIn = totalIn.add(r.getTotal());
+                inCount += r.getCount();
+            } else {
+                item.setTotalOut(r.getTotal());
+                item.setOutCount(r.getCount());
+                totalOut = totalOut.add(r.getTotal());
+                outCount += r.getCount();
+            }
+        }
+        months.forEach(item -> item.setBalance(item.getTotalIn().subtract(item.getTotalOut())));
+
+        KasaYillikOzetResponseDto dto = new KasaYillikOzetResponseDto();
+        dto.setKasaid(kasaid);
+        dto.setYear(year);
+        dto.setTotalIn(totalIn);
+        dto.setTotalOut(totalOut);
+        dto.setBalance(totalIn.subtract(totalOut));
+        dto.setHareketCount(inCount + outCount);
+        dto.setInCount(inCount);
+        dto.setOutCount(outCount);
+        dto.setMonths(months);
+
+        return dto;
+    }
+
+    // tüm kasalar (yıllar) yan yana; kasa_bakiye tek satır/kasa olduğundan cache gerekmez
+    public List<KasaYilKarsilastirmaDto> getYearComparison() {
+        return bakiyeRepository.yearComparison()
+                .stream()
+                .map(this::mapToComparison)
+                .toList();
+    }
+
+    // geçmiş tarihli bir hareket değişince (silme, import) ilgili yılın raporu düşer
+    @CacheEvict(cacheNames = CacheConfig.KASA_YILLIK_OZET, key = "#kasaid + '-' + #year")
+    public void evictYear(UUID kasaid, int year) {
+    }
+
+    public static boolean isClosedYear(int year) {
+        return year < Year.now().getValue();
+    }
+
+    private KasaYilKarsilastirmaDto mapToComparison(KasaYilOzetView v) {
+        BigDecimal totalIn = v.getTotalIn() != null ? v.getTotalIn() : BigDecimal.ZERO;
+        BigDecimal totalOut = v.getTotalOut() != null ? v.getTotalOut() : BigDecimal.ZERO;
+        long inCount = v.getInCount() != null ? v.getInCount() : 0;
+        long outCount = v.getOutCount() != null ? v.getOutCount() : 0;
+
+        KasaYilKarsilastirmaDto dto = new KasaYilKarsilastirmaDto();
+        dto.setKasaid(v.getKasaid());
+        dto.setYears(v.getYears());
+        dto.setTotalIn(totalIn);
+        dto.setTotalOut(totalOut);
+        dto.setBalance(totalIn.subtract(totalOut));
+        dto.setHareketCount(inCount + outCount);
+        dto.setLastTransactionDate(v.getLastTransactionDate());
+        dto.setArsivlendi(v.getArsivdate() != null);
+        return dto;
+    }
+}
@@ -1,80 +1,197 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.KasaRequestDto;
 import com.example.apartment_api.dto.KasaResponseDto;
 import com.example.apartment_api.entity.Kasa;
 import com.example.apartment_api.exception.BusinessException;
 import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.exception.UniqueConstraintTranslator;
 import com.example.apartment_api.repository.KasaRepository;
+import com.example.apartment_api.config.CacheConfig;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 public class KasaService {
 
+    private static final Logger log = LoggerFactory.getLogger(KasaService.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("kasa_hareket_y[0-9x]+_[0-9a-f]{32}");
+
+    private static final Map<String, String> CREATE_CONSTRAINTS = Map.of("ux_kasa_years", "Bu yıl için kasa zaten mevcut");
+    private static final Map<String, String> UPDATE_CONSTRAINTS = Map.of("ux_kasa_years", "Bu yıl başka bir kasa tarafından kullanılıyor");
+
     private final KasaRepository kasaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
 
-    public KasaService(KasaRepository kasaRepository) {
+    public KasaService(KasaRepository kasaRepository, JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
         this.kasaRepository = kasaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
     }
 
+    @Cacheable(CacheConfig.KASALAR)
     public List<KasaResponseDto> getAllActive() {
-        return kasaRepository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return kasaRepository.findActiveResponses();
     }
 
+    @Cacheable(cacheNames = CacheConfig.KASA, key = "#id")
+    @Transactional(readOnly = true)
     public KasaResponseDto getById(UUID id) {
         Kasa kasa = getEntityById(id);
         return mapToResponse(kasa);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.KASALAR, CacheConfig.KASA, CacheConfig.KASA_WRITABLE}, allEntries = true)
+    @Transactional
     public KasaResponseDto create(@Valid KasaRequestDto dto) {
 
-        if (kasaRepository.existsByYearsAndDeletedFalse(dto.getYears())) {
-            throw new BusinessException("Bu yıl için kasa zaten mevcut");
-        }
-
         Kasa kasa = new Kasa();
         kasa.setYears(dto.getYears());
         kasa.setCreatedate(LocalDateTime.now());
         kasa.setDeleted(false);
 
-        Kasa saved = kasaRepository.save(kasa);
+        Kasa saved = UniqueConstraintTranslator.translate(CREATE_CONSTRAINTS,
+                () -> kasaRepository.saveAndFlush(kasa));
+
+        // yeni yılın hareketleri için kasa_hareket partition'ı, kasa ile aynı transaction'da
+        kasaRepository.createHareketPartition(saved.getId(), saved.getYears());
+
         return mapToResponse(saved);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.KASALAR, CacheConfig.KASA, CacheConfig.KASA_WRITABLE}, allEntries = true)
     public KasaResponseDto update(UUID id, @Valid KasaRequestDto dto) {
         Kasa kasa = getEntityById(id);
 
-        if (kasaRepository.existsByYearsAndDeletedFalseAndIdNot(dto.getYears(), id)) {
-            throw new BusinessException("Bu yıl başka bir kasa tarafından kullanılıyor");
-        }
-
         kasa.setYears(dto.getYears());
         kasa.setUpdatedate(LocalDateTime.now());
 
-        Kasa updated = kasaRepository.save(kasa);
+        Kasa updated = UniqueConstraintTranslator.translate(UPDATE_CONSTRAINTS,
+                () -> kasaRepository.saveAndFlush(kasa));
         return mapToResponse(updated);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.KASALAR, CacheConfig.KASA, CacheConfig.KASA_WRITABLE}, allEntries = true)
+    @Transactional
     public void delete(UUID id) {
+        if (kasaRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Kasa not found");
+        }
+    }
+
+    // BULK DELETE (soft)
+    @CacheEvict(cacheNames = {CacheConfig.KASALAR, CacheConfig.KASA, CacheConfig.KASA_WRITABLE}, allEntries = true)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = kasaRepository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
+    }
+
+    // geçmiş yılın hareket partition'ını kasa_hareket'ten ayırır; tablo arşiv olarak kalır.
+    // Özetler (kasa_bakiye, kasa_gunluk_ozet) yerinde kaldığı için raporlar çalışmaya devam eder.
+    // Adımlar ayrı commit'lenir (CONCURRENTLY transaction'da çalışamaz); yarım kalan arşivleme
+    // aynı çağrı tekrarlanarak tamamlanır
+    @CacheEvict(cacheNames = {CacheConfig.KASALAR, CacheConfig.KASA, CacheConfig.KASA_WRITABLE}, allEntries = true)
+    public KasaResponseDto archive(UUID id) {
         Kasa kasa = getEntityById(id);
 
-        kasa.setDeleted(true);
-        kasa.setEnddate(LocalDateTime.now());
+        if (kasa.getYears() == null || kasa.getYears() >= LocalDate.now().getYear()) {
+            throw new BusinessException("Yalnızca geçmiş yılların kasası arşivlenebilir");
+        }
+
+        // bağlı (veya detach'i yarım kalmış) partition; ayrıldıktan sonra null
+        String partition = kasaRepository.findHareketPartitionName(id);
 
-        kasaRepository.save(kasa);
+        if (kasa.getArsivdate() != null && partition == null) {
+            // detach tamamlanmış; yalnızca view yenilemesi yarım kalmış olabilir
+            if (!kasaRepository.existsArsivTablosuViewDisinda(id)) {
+                throw new BusinessException("Kasa zaten arşivlenmiş");
+            }
+            jdbcTemplate.execute("select kasa_hareket_tum_yenile()");
+            return mapToResponse(kasa);
+        }
+
+        // önce işaretlenir: bu andan sonra kasaya hareket kabul edilmez
+        if (kasa.getArsivdate() == null) {
+            kasa.setArsivdate(LocalDateTime.now());
+            kasaRepository.save(kasa);
+        }
+
+        // isWritable cache'i detach'ten önce düşmeli; @CacheEvict ancak metot dönünce çalışır.
+        // Başka instance'ların cache'i TTL'e kadar true kalabilir: o kayıtlar partition bulamaz ve
+        // KasaHareketService'te iş hatasına çevrilir
+        evictWritable(id);
+
+        if (partition != null && PARTITION_NAME.matcher(partition).matches()) {
+            detachPartition(kasa, partition);
+            // ayrılan tablo daire ekstresi / borç raporu için kasa_hareket_tum view'ına eklenir
+            jdbcTemplate.execute("select kasa_hareket_tum_yenile()");
+        }
+
+        return mapToResponse(kasa);
+    }
+
+    // hareket kaydından önceki kasa doğrulaması: kasa var, silinmemiş ve arşivlenmemiş mi (cache'li)
+    @Cacheable(cacheNames = CacheConfig.KASA_WRITABLE, key = "#id")
+    public boolean isWritable(UUID id) {
+        return kasaRepository.existsByIdAndArsivdateIsNullAndDeletedFalse(id);
     }
 
     // ============
     // helpers
     // ============
+
+    // CONCURRENTLY transaction bloğunda çalışamaz; JdbcTemplate autocommit bağlantı kullanır.
+    // Parent tablo yalnızca SHARE UPDATE EXCLUSIVE alır, diğer yılların okuma/yazmaları beklemez.
+    private void detachPartition(Kasa kasa, String partition) {
+        try {
+            if (Boolean.TRUE.equals(kasaRepository.findHareketPartitionDetachPending(partition))) {
+                // önceki CONCURRENTLY ilk aşamadan sonra kesilmiş: yalnızca FINALIZE kalır
+                jdbcTemplate.execute("alter table kasa_hareket detach partition " + partition + " finalize");
+            } else {
+                jdbcTemplate.execute("alter table kasa_hareket detach partition " + partition + " concurrently");
+            }
+        } catch (RuntimeException ex) {
+            log.error("Kasa {} arşivlenemedi: {} ayrılamadı", kasa.getId(), partition, ex);
+
+            // partition hâlâ tam bağlıysa işaret geri alınır, kasa yazılabilir kalır.
+            // Detach pending kaldıysa kasa arşivli kalır; tekrar çağrı FINALIZE ile tamamlar
+            if (!Boolean.TRUE.equals(kasaRepository.findHareketPartitionDetachPending(partition))) {
+                kasa.setArsivdate(null);
+                kasaRepository.save(kasa);
+                evictWritable(kasa.getId());
+            }
+            throw new BusinessException("Kasa arşivlenemedi, işlem tekrar denenebilir");
+        }
+    }
+
+    private void evictWritable(UUID id) {
+        Cache writable = cacheManager.getCache(CacheConfig.KASA_WRITABLE);
+        if (writable != null) {
+            writable.evict(id);
+        }
+    }
     private Kasa getEntityById(UUID id) {
         return kasaRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Kasa not found"));
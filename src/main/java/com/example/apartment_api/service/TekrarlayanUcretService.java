@@ -0,0 +1,238 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
+import com.example.apartment_api.dto.TahakkukUretimResponseDto;
+import com.example.apartment_api.dto.TekrarlayanUcretRequestDto;
+import com.example.apartment_api.dto.TekrarlayanUcretResponseDto;
+import com.example.apartment_api.entity.TekrarlayanUcret;
+import com.example.apartment_api.exception.BusinessException;
+import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.repository.DaireRepository;
+import com.example.apartment_api.repository.DaireTahakkukJdbcRepository;
+import com.example.apartment_api.repository.TekrarlayanUcretRepository;
+import com.example.apartment_api.repository.UcretTypeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class TekrarlayanUcretService {
+
+    private static final Logger log = LoggerFactory.getLogger(TekrarlayanUcretService.class);
+
+    private final TekrarlayanUcretRepository repository;
+    private final DaireTahakkukJdbcRepository tahakkukJdbcRepository;
+    private final DaireRepository daireRepository;
+    private final UcretTypeRepository ucretTypeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter insertedCounter;
+    private final Counter skippedCounter;
+    private final Timer runTimer;
+
+    public TekrarlayanUcretService(TekrarlayanUcretRepository repository,
+                                   DaireTahakkukJdbcRepository tahakkukJdbcRepository,
+                                   DaireRepository daireRepository,
+                                   UcretTypeRepository ucretTypeRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.tahakkukJdbcRepository = tahakkukJdbcRepository;
+        this.daireRepository = daireRepository;
+        this.ucretTypeRepository = ucretTypeRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        this.insertedCounter = Counter.builder("tahakkuk.uretim.rows")
+                .tag("result", "inserted")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("tahakkuk.uretim.rows")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("tahakkuk.uretim.run")
+                .register(meterRegistry);
+    }
+
+    // GET ALL
+    public List<TekrarlayanUcretResponseDto> getAllActive() {
+        return repository.findByDeletedFalse()
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    // GET BY ID
+    @Transactional(readOnly = true)
+    public TekrarlayanUcretResponseDto getById(UUID id) {
+        return mapToResponse(getEntityById(id));
+    }
+
+    // CREATE
+    @Transactional
+    public TekrarlayanUcretResponseDto create(@Valid TekrarlayanUcretRequestDto dto) {
+
+        if (ucretTypeRepository.findByIdAndDeletedFalse(dto.getUcrettypeid()).isEmpty()) {
+            throw new BusinessException("ucrettypeid geçersiz (aktif ücret tipi bulunamadı)");
+        }
+
+        Set<UUID> daireler = dto.getDaireler() != null ? dto.getDaireler() : Set.of();
+        for (UUID daireid : daireler) {
+            if (daireRepository.findByIdAndDeletedFalse(daireid).isEmpty()) {
+                throw new BusinessException("daireid geçersiz (aktif daire bulunamadı): " + daireid);
+            }
+        }
+
+        TekrarlayanUcret tanim = new TekrarlayanUcret();
+        tanim.setUcrettypeid(dto.getUcrettypeid());
+        tanim.setAmount(dto.getAmount());
+        tanim.setGun(dto.getGun());
+        tanim.setBaslangicDonem(dto.getBaslangicDonem().withDayOfMonth(1));
+        tanim.setTumDaireler(daireler.isEmpty());
+        tanim.setDaireler(new HashSet<>(daireler));
+        tanim.setDescription(dto.getDescription());
+        tanim.setCreatedate(LocalDateTime.now());
+        tanim.setDeleted(false);
+
+        return mapToResponse(repository.save(tanim));
+    }
+
+    // DELETE (soft): üretilmiş tahakkuklar yerinde kalır
+    @Transactional
+    public void delete(UUID id) {
+        if (repository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Tekrarlayan ucret not found");
+        }
+    }
+
+    // BULK DELETE (soft)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = repository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
+    }
+
+    // ============
+    // üretici
+    // ============
+
+    // her gün çalışır; tahakkuk günü gelmiş ve henüz üretilmemiş dönemleri (kaçırılanlar dahil) yazar.
+    // tüm çalıştırma tek transaction: yarıda kalırsa son_donem de geri alınır, sonraki çalıştırma
+    // aynı dönemlerden devam eder; (daire, ücret tipi, dönem) unique index'i çift kaydı engeller
+    @Scheduled(cron = "${tahakkuk.uretim.cron:0 0 2 * * *}")
+    public TahakkukUretimResponseDto run() {
+        LocalDate today = LocalDate.now();
+        long start = System.nanoTime();
+
+        TahakkukUretimResponseDto result = transactionTemplate.execute(status -> generate(today));
+
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        insertedCounter.increment(result.getInsertedCount());
+        skippedCounter.increment(result.getSkippedCount());
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        result.setDurationMs(durationMs);
+        result.setRowsPerSecond(result.getInsertedCount() * 1_000_000_000.0 / Math.max(elapsedNanos, 1));
+
+        log.info("Tahakkuk üretimi: {} tanım, {} dönem, {} satır yazıldı, {} atlandı, {} ms ({} satır/sn)",
+                result.getTanimCount(), result.getDonemCount(), result.getInsertedCount(),
+                result.getSkippedCount(), durationMs, String.format("%.0f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    private TahakkukUretimResponseDto generate(LocalDate today) {
+        List<TekrarlayanUcret> tanimlar = repository.findActiveForUpdate();
+
+        // çalıştırma başına bir kez
+        List<UUID> aktifDaireler = daireRepository.findActiveIds();
+        Set<UUID> aktifUcretTypes = new HashSet<>(ucretTypeRepository.findActiveIds());
+
+        LocalDateTime now = LocalDateTime.now();
+        TahakkukUretimResponseDto result = new TahakkukUretimResponseDto();
+
+        for (TekrarlayanUcret tanim : tanimlar) {
+            if (!aktifUcretTypes.contains(tanim.getUcrettypeid())) {
+                log.warn("Tekrarlayan ücret {} atlandı: ücret tipi silinmiş", tanim.getId());
+                continue;
+            }
+
+            List<UUID> hedef = Boolean.TRUE.equals(tanim.getTumDaireler())
+                    ? aktifDaireler
+                    : aktifDaireler.stream().filter(tanim.getDaireler()::contains).toList();
+
+            List<LocalDate> donemler = dueDonemler(tanim, today);
+            for (LocalDate donem : donemler) {
+                int inserted = tahakkukJdbcRepository.insertMissing(
+                        hedef, tanim.getUcrettypeid(), donem, tanim.getAmount(), description(tanim, donem), now);
+
+                result.setInsertedCount(result.getInsertedCount() + inserted);
+                result.setSkippedCount(result.getSkippedCount() + hedef.size() - inserted);
+                tanim.setSonDonem(donem);
+            }
+
+            if (!donemler.isEmpty()) {
+                tanim.setUpdatedate(now);
+                result.setDonemCount(result.getDonemCount() + donemler.size());
+            }
+            result.setTanimCount(result.getTanimCount() + 1);
+        }
+
+        return result;
+    }
+
+    // son üretilen dönemden sonra, tahakkuk günü geçmiş tüm aylar
+    private static List<LocalDate> dueDonemler(TekrarlayanUcret tanim, LocalDate today) {
+        LocalDate first = tanim.getSonDonem() != null
+                ? tanim.getSonDonem().plusMonths(1)
+                : tanim.getBaslangicDonem();
+
+        LocalDate thisMonth = today.withDayOfMonth(1);
+        LocalDate last = today.getDayOfMonth() >= tanim.getGun() ? thisMonth : thisMonth.minusMonths(1);
+
+        List<LocalDate> donemler = new ArrayList<>();
+        for (LocalDate d = first; !d.isAfter(last); d = d.plusMonths(1)) {
+            donemler.add(d);
+        }
+        return donemler;
+    }
+
+    private static String description(TekrarlayanUcret tanim, LocalDate donem) {
+        String base = tanim.getDescription() != null ? tanim.getDescription() : "Tekrarlayan ücret";
+        return base + " " + YearMonth.from(donem);
+    }
+
+    // ============
+    // helpers
+    // ============
+    private TekrarlayanUcret getEntityById(UUID id) {
+        return repository.findByIdAndDeletedFalse(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tekrarlayan ucret not found"));
+    }
+
+    private TekrarlayanUcretResponseDto mapToResponse(TekrarlayanUcret e) {
+        TekrarlayanUcretResponseDto dto = new TekrarlayanUcretResponseDto();
+        dto.setId(e.getId());
+        dto.setUcrettypeid(e.getUcrettypeid());
+        dto.setAmount(e.getAmount());
+        dto.setGun(e.getGun());
+        dto.setBaslangicDonem(e.getBaslangicDonem());
+        dto.setSonDonem(e.getSonDonem());
+        dto.setTumDaireler(Boolean.TRUE.equals(e.getTumDaireler()));
+        dto.setDaireler(Set.copyOf(e.getDaireler()));
+        dto.setDescription(e.getDescription());
+        return dto;
+    }
+}
@@ -1,21 +1,32 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.UcretTypeRequestDto;
 import com.example.apartment_api.dto.UcretTypeResponseDto;
 import com.example.apartment_api.entity.UcretType;
-import com.example.apartment_api.exception.BusinessException;
 import com.example.apartment_api.exception.ResourceNotFoundException;
+import com.example.apartment_api.exception.UniqueConstraintTranslator;
 import com.example.apartment_api.repository.UcretTypeRepository;
+import com.example.apartment_api.config.CacheConfig;
 import jakarta.validation.Valid;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class UcretTypeService {
 
+    private static final Map<String, String> CREATE_CONSTRAINTS = Map.of("ux_ucrettype_code", "Bu code zaten tanımlı");
+    private static final Map<String, String> UPDATE_CONSTRAINTS = Map.of("ux_ucrettype_code", "Bu code başka bir kayıt tarafından kullanılıyor");
+
     private final UcretTypeRepository ucretTypeRepository;
 
     public UcretTypeService(UcretTypeRepository ucretTypeRepository) {
@@ -23,60 +34,64 @@ public class UcretTypeService {
     }
 
     // GET ALL
+    @Cacheable(CacheConfig.UCRET_TYPES)
     public List<UcretTypeResponseDto> getAllActive() {
-        return ucretTypeRepository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return ucretTypeRepository.findActiveResponses();
     }
 
     // GET BY ID
+    @Cacheable(cacheNames = CacheConfig.UCRET_TYPE, key = "#id")
+    @Transactional(readOnly = true)
     public UcretTypeResponseDto getById(UUID id) {
         UcretType entity = getEntityById(id);
         return mapToResponse(entity);
     }
 
     // CREATE
+    @CacheEvict(cacheNames = {CacheConfig.UCRET_TYPES, CacheConfig.UCRET_TYPE}, allEntries = true)
     public UcretTypeResponseDto create(@Valid UcretTypeRequestDto dto) {
 
-        if (ucretTypeRepository.existsByCodeAndDeletedFalse(dto.getCode())) {
-            throw new BusinessException("Bu code zaten tanımlı");
-        }
-
         UcretType type = new UcretType();
         type.setCode(dto.getCode());
         type.setAciklama(dto.getAciklama());
         type.setCreatedate(LocalDateTime.now());
         type.setDeleted(false);
 
-        UcretType saved = ucretTypeRepository.save(type);
+        UcretType saved = UniqueConstraintTranslator.translate(CREATE_CONSTRAINTS,
+                () -> ucretTypeRepository.saveAndFlush(type));
         return mapToResponse(saved);
     }
 
     // UPDATE
+    @CacheEvict(cacheNames = {CacheConfig.UCRET_TYPES, CacheConfig.UCRET_TYPE}, allEntries = true)
     public UcretTypeResponseDto update(UUID id, @Valid UcretTypeRequestDto dto) {
         UcretType type = getEntityById(id);
 
-        if (ucretTypeRepository.existsByCodeAndDeletedFalseAndIdNot(dto.getCode(), id)) {
-            throw new BusinessException("Bu code başka bir kayıt tarafından kullanılıyor");
-        }
-
         type.setCode(dto.getCode());
         type.setAciklama(dto.getAciklama());
         type.setUpdatedate(LocalDateTime.now());
 
-        UcretType updated = ucretTypeRepository.save(type);
+        UcretType updated = UniqueConstraintTranslator.translate(UPDATE_CONSTRAINTS,
+                () -> ucretTypeRepository.saveAndFlush(type));
         return mapToResponse(updated);
     }
 
     // DELETE (soft)
+    @CacheEvict(cacheNames = {CacheConfig.UCRET_TYPES, CacheConfig.UCRET_TYPE}, allEntries = true)
+    @Transactional
     public void delete(UUID id) {
-        UcretType type = getEntityById(id);
-
-        type.setDeleted(true);
-        type.setEnddate(LocalDateTime.now());
+        if (ucretTypeRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("UcretType not found");
+        }
+    }
 
-        ucretTypeRepository.save(type);
+    // BULK DELETE (soft)
+    @CacheEvict(cacheNames = {CacheConfig.UCRET_TYPES, CacheConfig.UCRET_TYPE}, allEntries = true)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = ucretTypeRepository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
     }
 
     // ============
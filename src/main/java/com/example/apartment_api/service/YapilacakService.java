@@ -1,5 +1,6 @@
 package com.example.apartment_api.service;
 
+import com.example.apartment_api.dto.BulkDeleteResponseDto;
 import com.example.apartment_api.dto.StatusCountResponseDto;
 import com.example.apartment_api.dto.YapilacakRequestDto;
 import com.example.apartment_api.dto.YapilacakResponseDto;
@@ -9,11 +10,14 @@ import com.example.apartment_api.exception.ResourceNotFoundException;
 import com.example.apartment_api.repository.YapilacakRepository;
 import jakarta.validation.Valid;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.EnumMap;
 import java.util.Map;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -26,12 +30,10 @@ public class YapilacakService {
     }
 
     public List<YapilacakResponseDto> getAllActive() {
-        return repository.findByDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return repository.findActiveResponses();
     }
 
+    @Transactional(readOnly = true)
     public YapilacakResponseDto getById(UUID id) {
         return mapToResponse(getEntity(id));
     }
@@ -60,27 +62,29 @@ public class YapilacakService {
         return mapToResponse(repository.save(y));
     }
 
+    @Transactional
     public void delete(UUID id) {
-        Yapilacak y = getEntity(id);
-        y.setDeleted(true);
-        y.setEnddate(LocalDateTime.now());
-        repository.save(y);
+        if (repository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Yapilacak not found");
+        }
+    }
+
+    // BULK DELETE (soft)
+    @Transactional
+    public BulkDeleteResponseDto deleteAll(List<UUID> ids) {
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        int deleted = repository.softDeleteAll(unique, LocalDateTime.now());
+        return new BulkDeleteResponseDto(unique.size(), deleted);
     }
 
     // expire geçmemiş yapılacaklar
     public List<YapilacakResponseDto> getNotExpired() {
-        return repository.findByDeletedFalseAndExpiredateAfter(LocalDateTime.now())
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return repository.findActiveResponsesExpiringAfter(LocalDateTime.now());
     }
 
     // status’a göre liste
     public List<YapilacakResponseDto> getByStatus(YapilacakStatus status) {
-        return repository.findByDeletedFalseAndStatus(status)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return repository.findActiveResponsesByStatus(status);
     }
 
     private Yapilacak getEntity(UUID id) {
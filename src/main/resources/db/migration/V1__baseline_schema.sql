@@ -0,0 +1,101 @@
+-- Mevcut şema (entity'lerin karşılığı). Var olan veritabanlarında baseline-on-migrate ile atlanır.
+
+create table if not exists customer (
+    id          uuid primary key,
+    createdate  timestamp(6),
+    updatedate  timestamp(6),
+    enddate     timestamp(6),
+    delete      boolean not null default false,
+    name        varchar(255),
+    surname     varchar(255),
+    tel         varchar(255),
+    email       varchar(255)
+);
+
+create table if not exists approle (
+    id          uuid primary key,
+    createdate  timestamp(6),
+    updatedate  timestamp(6),
+    enddate     timestamp(6),
+    delete      boolean not null default false,
+    code        varchar(255),
+    aciklama    varchar(255)
+);
+
+create table if not exists app_user (
+    id            uuid primary key,
+    createdate    timestamp(6),
+    updatedate    timestamp(6),
+    enddate       timestamp(6),
+    delete        boolean not null default false,
+    app_user      varchar(255),
+    app_password  varchar(255),
+    customerid    uuid references customer (id),
+    roleid        uuid references approle (id)
+);
+
+create table if not exists daireler (
+    id          uuid primary key,
+    createdate  timestamp(6),
+    updatedate  timestamp(6),
+    enddate     timestamp(6),
+    delete      boolean not null default false,
+    daireno     varchar(255),
+    userid      uuid references app_user (id)
+);
+
+create table if not exists kasa (
+    id          uuid primary key,
+    createdate  timestamp(6),
+    updatedate  timestamp(6),
+    enddate     timestamp(6),
+    delete      boolean not null default false,
+    years       integer
+);
+
+create table if not exists ucrettype (
+    id          uuid primary key,
+    createdate  timestamp(6),
+    updatedate  timestamp(6),
+    enddate     timestamp(6),
+    delete      boolean not null default false,
+    code        varchar(255),
+    aciklama    varchar(255)
+);
+
+create table if not exists duyurular (
+    id          uuid primary key,
+    createdate  timestamp(6),
+    updatedate  timestamp(6),
+    enddate     timestamp(6),
+    delete      boolean not null default false,
+    type        varchar(255),
+    aciklama    varchar(255),
+    expiredate  timestamp(6)
+);
+
+create table if not exists yapilacaklar (
+    id          uuid primary key,
+    createdate  timestamp(6),
+    updatedate  timestamp(6),
+    enddate     timestamp(6),
+    delete      boolean not null default false,
+    type        varchar(255),
+    aciklama    varchar(255),
+    expiredate  timestamp(6),
+    status      varchar(50)
+);
+
+create table if not exists kasa_hareket (
+    id           uuid primary key,
+    createdate   timestamp(6),
+    updatedate   timestamp(6),
+    enddate      timestamp(6),
+    delete       boolean not null default false,
+    kasaid       uuid not null,
+    daireid      uuid,
+    ucrettypeid  uuid,
+    amount       numeric(12, 2) not null,
+    direction    varchar(10) not null,
+    description  varchar(255)
+);
@@ -0,0 +1,40 @@
+-- kasa başına bakiye özeti ve günlük rollup; mevcut hareketlerden ilk kez doldurulur
+
+create table if not exists kasa_bakiye (
+    kasaid                 uuid primary key,
+    total_in               numeric(14, 2) not null default 0,
+    total_out              numeric(14, 2) not null default 0,
+    in_count               bigint not null default 0,
+    out_count              bigint not null default 0,
+    last_transaction_date  timestamp(6),
+    updatedate             timestamp(6)
+);
+
+create table if not exists kasa_gunluk_ozet (
+    kasaid     uuid not null,
+    gun        date not null,
+    direction  varchar(10) not null,
+    toplam     numeric(14, 2) not null default 0,
+    adet       bigint not null default 0,
+    primary key (kasaid, gun, direction)
+);
+
+insert into kasa_bakiye (kasaid, total_in, total_out, in_count, out_count, last_transaction_date, updatedate)
+select h.kasaid,
+       coalesce(sum(h.amount) filter (where h.direction = 'IN'), 0),
+       coalesce(sum(h.amount) filter (where h.direction = 'OUT'), 0),
+       count(*) filter (where h.direction = 'IN'),
+       count(*) filter (where h.direction = 'OUT'),
+       max(h.createdate),
+       now()
+from kasa_hareket h
+where h.delete = false
+group by h.kasaid
+on conflict (kasaid) do nothing;
+
+insert into kasa_gunluk_ozet (kasaid, gun, direction, toplam, adet)
+select h.kasaid, cast(h.createdate as date), h.direction, sum(h.amount), count(*)
+from kasa_hareket h
+where h.delete = false
+group by h.kasaid, cast(h.createdate as date), h.direction
+on conflict (kasaid, gun, direction) do nothing;
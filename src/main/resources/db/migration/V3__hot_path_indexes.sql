@@ -0,0 +1,36 @@
+-- kasa_hareket sorguları hep kasaid + delete = false (+ direction / createdate aralığı) ile filtreler
+
+-- yön + tarih aralığı (özet rebuild, mutabakat, yön filtreli listeler)
+create index if not exists ix_kasa_hareket_kasa_direction_createdate
+    on kasa_hareket (kasaid, direction, createdate)
+    where delete = false;
+
+-- keyset sayfalama / stream: order by createdate, id
+create index if not exists ix_kasa_hareket_kasa_createdate_id
+    on kasa_hareket (kasaid, createdate, id)
+    where delete = false;
+
+create index if not exists ix_daireler_userid
+    on daireler (userid)
+    where delete = false;
+
+-- soft-delete'li doğal anahtarlar: silinmiş kayıtlar aynı değeri tekrar kullanabilir
+create unique index if not exists ux_daireler_daireno
+    on daireler (daireno)
+    where delete = false;
+
+create unique index if not exists ux_app_user_app_user
+    on app_user (app_user)
+    where delete = false;
+
+create unique index if not exists ux_approle_code
+    on approle (code)
+    where delete = false;
+
+create unique index if not exists ux_ucrettype_code
+    on ucrettype (code)
+    where delete = false;
+
+create unique index if not exists ux_kasa_years
+    on kasa (years)
+    where delete = false;
@@ -0,0 +1,77 @@
+-- kasa_hareket kasaid'ye göre LIST partition'lanır: her kasa (yıl) kendi tablosunda.
+-- Tüm repository sorguları kasaid = ? ile filtrelediği için planlayıcı tek partition'a iner.
+-- DEFAULT partition bilerek yok: eski yıllar DETACH ... CONCURRENTLY ile sıcak tabloyu kilitlemeden ayrılabilsin.
+
+alter table kasa add column if not exists arsivdate timestamp(6);
+
+alter table kasa_hareket rename to kasa_hareket_eski;
+
+create table kasa_hareket (
+    id           uuid not null,
+    createdate   timestamp(6),
+    updatedate   timestamp(6),
+    enddate      timestamp(6),
+    delete       boolean not null default false,
+    kasaid       uuid not null,
+    daireid      uuid,
+    ucrettypeid  uuid,
+    amount       numeric(12, 2) not null,
+    direction    varchar(10) not null,
+    description  varchar(255),
+    primary key (kasaid, id)
+) partition by list (kasaid);
+
+-- kasaid'nin partition'ını oluşturur (varsa dokunmaz), partition adını döner
+create or replace function kasa_hareket_partition_olustur(p_kasaid uuid, p_years integer)
+returns text
+language plpgsql
+as $$
+declare
+    v_name text := 'kasa_hareket_y' || coalesce(p_years::text, 'x') || '_' || replace(p_kasaid::text, '-', '');
+begin
+    if to_regclass(v_name) is null then
+        execute format('create table %I partition of kasa_hareket for values in (%L)', v_name, p_kasaid);
+    end if;
+    return v_name;
+end;
+$$;
+
+-- kasaid'ye bağlı (attach edilmiş) partition'ın adı; yoksa null
+create or replace function kasa_hareket_partition_adi(p_kasaid uuid)
+returns text
+language sql
+stable
+as $$
+    select c.relname::text
+    from pg_inherits i
+    join pg_class c on c.oid = i.inhrelid
+    where i.inhparent = 'kasa_hareket'::regclass
+      and pg_get_expr(c.relpartbound, c.oid) = format('FOR VALUES IN (%L)', p_kasaid)
+$$;
+
+-- mevcut kasalar ve (kasa tablosunda karşılığı olmayan) eski hareketlerin kasaid'leri için partition
+select kasa_hareket_partition_olustur(k.id, k.years)
+from kasa k;
+
+select kasa_hareket_partition_olustur(e.kasaid, null)
+from (select distinct kasaid from kasa_hareket_eski) e
+where not exists (select 1 from kasa k where k.id = e.kasaid);
+
+insert into kasa_hareket (id, createdate, updatedate, enddate, delete, kasaid, daireid, ucrettypeid, amount, direction, description)
+select id, createdate, updatedate, enddate, delete, kasaid, daireid, ucrettypeid, amount, direction, description
+from kasa_hareket_eski;
+
+drop table kasa_hareket_eski;
+
+-- parent üzerindeki index'ler her partition'a (yenilere de) otomatik uygulanır
+create index ix_kasa_hareket_kasa_direction_createdate
+    on kasa_hareket (kasaid, direction, createdate)
+    where delete = false;
+
+create index ix_kasa_hareket_kasa_createdate_id
+    on kasa_hareket (kasaid, createdate, id)
+    where delete = false;
+
+-- findById / update where id = ? kasaid içermez; her partition'da id ile index lookup
+create index ix_kasa_hareket_id
+    on kasa_hareket (id);
@@ -0,0 +1,24 @@
+-- daire bazında tahakkuk (borçlandırma): aidat vb. ücretin daireye yazılması.
+-- ödemeler kasa_hareket'te (direction = IN, daireid dolu); daire ekstresi ikisinin farkıdır
+
+create table if not exists daire_tahakkuk (
+    id           uuid primary key,
+    createdate   timestamp(6),
+    updatedate   timestamp(6),
+    enddate      timestamp(6),
+    delete       boolean not null default false,
+    daireid      uuid not null references daireler (id),
+    ucrettypeid  uuid not null references ucrettype (id),
+    donem        date not null, -- ayın ilk günü
+    amount       numeric(12, 2) not null,
+    description  varchar(255)
+);
+
+-- ekstre / borç raporu: daire (+ ücret tipi) bazında toplamlar index-only scan ile okunur
+create index if not exists ix_daire_tahakkuk_daire_ucrettype
+    on daire_tahakkuk (daireid, ucrettypeid) include (donem, amount)
+    where delete = false;
+
+create index if not exists ix_kasa_hareket_daire_ucrettype
+    on kasa_hareket (daireid, ucrettypeid) include (direction, amount)
+    where delete = false and daireid is not null;
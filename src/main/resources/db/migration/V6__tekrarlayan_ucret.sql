@@ -0,0 +1,28 @@
+-- tekrarlayan ücret tanımları (aylık aidat vb.) ve üretici için idempotency anahtarı
+
+create table if not exists tekrarlayan_ucret (
+    id               uuid primary key,
+    createdate       timestamp(6),
+    updatedate       timestamp(6),
+    enddate          timestamp(6),
+    delete           boolean not null default false,
+    ucrettypeid      uuid not null references ucrettype (id),
+    amount           numeric(12, 2) not null,
+    gun              integer not null check (gun between 1 and 28), -- ayın kaçında tahakkuk edilir
+    baslangic_donem  date not null,
+    son_donem        date,                                          -- en son üretilen dönem (resume noktası)
+    tum_daireler     boolean not null default true,
+    description      varchar(255)
+);
+
+-- tum_daireler = false ise hedef daireler
+create table if not exists tekrarlayan_ucret_daire (
+    tekrarlayan_ucret_id  uuid not null references tekrarlayan_ucret (id),
+    daireid               uuid not null references daireler (id),
+    primary key (tekrarlayan_ucret_id, daireid)
+);
+
+-- (daire, ücret tipi, dönem) başına tek aktif tahakkuk: üretici tekrar çalışsa da çift kayıt oluşmaz
+create unique index if not exists ux_daire_tahakkuk_daire_ucrettype_donem
+    on daire_tahakkuk (daireid, ucrettypeid, donem)
+    where delete = false;
@@ -0,0 +1,11 @@
+-- müşteri tel / email tekilliği artık servis kontrolüyle değil DB'de sağlanır (bkz. UniqueConstraintTranslator).
+-- Diğer soft-delete'li doğal anahtarların index'leri V3'te.
+-- Not: aktif kayıtlarda mükerrer tel / email varsa migration düşer; önce temizlenmeli.
+
+create unique index if not exists ux_customer_tel
+    on customer (tel)
+    where delete = false;
+
+create unique index if not exists ux_customer_email
+    on customer (email)
+    where delete = false;
@@ -0,0 +1,33 @@
+-- Arşivlenen yılın partition'ı kasa_hareket'ten detach edilir ama tablo (index'leriyle) yerinde kalır.
+-- Daire ekstresi / borç raporu tahakkukları yıl ayırmadan okur; ödemeler de arşiv yıllarıyla birlikte
+-- okunmazsa arşivlenen yıl her dairede ödenmemiş görünür.
+-- kasa_hareket_tum = kasa_hareket + ayrılmış partition tabloları. KasaService.archive her detach'ten
+-- sonra yeniler. Arşiv tablosu elle drop edilecekse önce view düşürülüp (drop ... cascade) fonksiyon
+-- yeniden çağrılmalı.
+
+create or replace function kasa_hareket_tum_yenile()
+returns void
+language plpgsql
+as $$
+declare
+    v_cols text := 'id, createdate, updatedate, enddate, delete, kasaid, daireid, ucrettypeid, amount, direction, description';
+    v_sql  text := format('select %s from kasa_hareket', v_cols);
+    r      record;
+begin
+    for r in
+        select c.relname
+        from pg_class c
+        where c.relkind = 'r'
+          and not c.relispartition
+          and c.relname ~ '^kasa_hareket_y[0-9x]+_[0-9a-f]{32}$'
+          and pg_table_is_visible(c.oid)
+        order by c.relname
+    loop
+        v_sql := v_sql || format(' union all select %s from %I', v_cols, r.relname);
+    end loop;
+
+    execute 'create or replace view kasa_hareket_tum as ' || v_sql;
+end;
+$$;
+
+select kasa_hareket_tum_yenile();
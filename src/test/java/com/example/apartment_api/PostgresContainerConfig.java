@@ -0,0 +1,18 @@
+package com.example.apartment_api;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+// entegrasyon testleri için geçici PostgreSQL; datasource ayarlarını @ServiceConnection doldurur,
+// şema uygulama açılırken Flyway migration'larıyla kurulur
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgres() {
+        return new PostgreSQLContainer<>("postgres:16-alpine");
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.apartment_api.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    private static final int IDS = 1_000_000;
+
+    @Test
+    void setsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        // sayaç taşarsa zaman damgası saatin önüne geçebilir, gerisine düşmez
+        assertThat(millis(id)).isGreaterThanOrEqualTo(before);
+    }
+
+    // tek ms'de 4096'dan fazla id: sayaç taşınca bir sonraki ms'ye geçilir, sıra bozulmaz
+    @Test
+    void staysStrictlyOrderedAcrossCounterOverflow() {
+        UUID prev = UuidV7Generator.next();
+        boolean overflowed = false;
+
+        for (int i = 0; i < IDS; i++) {
+            UUID id = UuidV7Generator.next();
+            assertThat(id).isGreaterThan(prev);
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+
+            if (counter(prev) == 0xFFF) {
+                assertThat(millis(id)).isEqualTo(millis(prev) + 1);
+                assertThat(counter(id)).isZero();
+                overflowed = true;
+            }
+            prev = id;
+        }
+
+        assertThat(overflowed).as("%d id içinde sayaç hiç taşmadı", IDS).isTrue();
+    }
+
+    @Test
+    void isUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 100_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7Generator.next());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> ids = future.get(1, TimeUnit.MINUTES);
+                // her thread kendi ürettiklerini artan sırada görür
+                assertThat(ids).isSorted();
+                all.addAll(ids);
+            }
+            assertThat(all).hasSize(threads * perThread);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    private static long millis(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long counter(UUID id) {
+        return id.getMostSignificantBits() & 0xFFF;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.apartment_api.repository;
+
+import com.example.apartment_api.PostgresContainerConfig;
+import com.example.apartment_api.dto.KasaRequestDto;
+import com.example.apartment_api.service.KasaService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// sıcak kasa_hareket sorgularının planı: V3/V4 partial index'leri kullanılmalı, partition seq-scan edilmemeli.
+// Partition index'leri otomatik adlandırılır; plandaki index parent index adına çevrilip karşılaştırılır
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "kasa.bakiye.reconcile-cron=-",
+                "tahakkuk.uretim.cron=-",
+                "kasa.butunluk.cron=-"
+        })
+@Import(PostgresContainerConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KasaHareketIndexUsageIT {
+
+    private static final int YEAR = 2201;
+    private static final int ROWS = 50_000;
+    private static final int DAIRE_COUNT = 200;
+
+    @Autowired
+    private KasaService kasaService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID kasaid;
+    private UUID someId;
+
+    @BeforeAll
+    void seed() {
+        KasaRequestDto request = new KasaRequestDto();
+        request.setYears(YEAR);
+        kasaid = kasaService.create(request).getId();
+
+        List<UUID> daireler = new ArrayList<>();
+        for (int i = 0; i < DAIRE_COUNT; i++) {
+            daireler.add(UUID.randomUUID());
+        }
+
+        LocalDateTime start = LocalDateTime.of(YEAR, 1, 1, 8, 0);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            UUID id = UUID.randomUUID();
+            if (i == ROWS / 2) {
+                someId = id;
+            }
+            batch.add(new Object[]{
+                    id, Timestamp.valueOf(start.plusDays(i % 365).plusSeconds(i / 365)),
+                    i % 50 == 0, kasaid, daireler.get(i % DAIRE_COUNT),
+                    BigDecimal.valueOf(100 + i % 900), i % 5 == 0 ? "OUT" : "IN"
+            });
+        }
+        jdbc.batchUpdate("""
+                insert into kasa_hareket (id, createdate, delete, kasaid, daireid, amount, direction)
+                values (?, ?, ?, ?, ?, ?, ?)
+                """, batch);
+
+        // planlayıcı gerçek satır sayılarını görsün
+        jdbc.execute("vacuum analyze kasa_hareket");
+    }
+
+    @Test
+    void directionAndDateRangeUsesDirectionIndex() {
+        Set<String> indexes = usedIndexes("""
+                select h.amount from kasa_hareket h
+                where h.kasaid = ? and h.delete = false and h.direction = 'OUT'
+                  and h.createdate >= ? and h.createdate < ?
+                """, kasaid, Timestamp.valueOf(LocalDateTime.of(YEAR, 6, 1, 0, 0)),
+                Timestamp.valueOf(LocalDateTime.of(YEAR, 7, 1, 0, 0)));
+
+        assertThat(indexes).contains("ix_kasa_hareket_kasa_direction_createdate");
+    }
+
+    @Test
+    void keysetPageUsesCreatedateIdIndex() {
+        Set<String> indexes = usedIndexes("""
+                select h.id, h.createdate, h.amount from kasa_hareket h
+                where h.kasaid = ? and h.delete = false
+                  and (h.createdate, h.id) > (?, ?)
+                order by h.createdate, h.id
+                limit 100
+                """, kasaid, Timestamp.valueOf(LocalDateTime.of(YEAR, 3, 1, 0, 0)), new UUID(0, 0));
+
+        assertThat(indexes).contains("ix_kasa_hareket_kasa_createdate_id");
+    }
+
+    @Test
+    void lookupByIdUsesIdIndex() {
+        Set<String> indexes = usedIndexes("select h.amount from kasa_hareket h where h.id = ?", someId);
+
+        assertThat(indexes).contains("ix_kasa_hareket_id");
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    // EXPLAIN (FORMAT JSON) planındaki index'leri parent index adlarıyla döner; seq scan varsa test düşer
+    private Set<String> usedIndexes(String sql, Object... args) {
+        String json = jdbc.queryForObject("explain (format json) " + sql, String.class, args);
+        Set<String> indexes = new HashSet<>();
+        try {
+            collect(objectMapper.readTree(json).get(0).get("Plan"), indexes);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return indexes;
+    }
+
+    private void collect(JsonNode plan, Set<String> indexes) {
+        String nodeType = plan.path("Node Type").asText();
+        assertThat(nodeType)
+                .as("plan seq scan içeriyor: %s", plan.path("Relation Name").asText())
+                .isNotEqualTo("Seq Scan");
+
+        if (plan.has("Index Name")) {
+            indexes.add(parentIndex(plan.get("Index Name").asText()));
+        }
+        for (JsonNode child : plan.path("Plans")) {
+            collect(child, indexes);
+        }
+    }
+
+    private String parentIndex(String index) {
+        List<String> parents = jdbc.queryForList("""
+                select p.relname
+                from pg_inherits i
+                join pg_class c on c.oid = i.inhrelid
+                join pg_class p on p.oid = i.inhparent
+                where c.relname = ?
+                """, String.class, index);
+        return parents.isEmpty() ? index : parents.get(0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.PostgresContainerConfig;
+import com.example.apartment_api.dto.KasaHareketRequestDto;
+import com.example.apartment_api.dto.KasaRequestDto;
+import com.example.apartment_api.enums.KasaDirection;
+import com.example.apartment_api.exception.BusinessException;
+import com.example.apartment_api.repository.KasaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+// arşivleme adımları ayrı commit'lenir: detach ya da view yenilemesi düşerse kasa tutarlı kalmalı
+// ve aynı çağrı tekrarlanınca arşivleme tamamlanmalı
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "kasa.bakiye.reconcile-cron=-",
+                "tahakkuk.uretim.cron=-",
+                "kasa.butunluk.cron=-"
+        })
+@Import(PostgresContainerConfig.class)
+class KasaArchiveIT {
+
+    @Autowired
+    private KasaService kasaService;
+
+    @Autowired
+    private KasaHareketService hareketService;
+
+    @Autowired
+    private KasaRepository kasaRepository;
+
+    @SpyBean
+    private JdbcTemplate jdbc;
+
+    @AfterEach
+    void resetJdbc() {
+        reset(jdbc);
+    }
+
+    @Test
+    void failedDetachRollsBackArchiveMarkAndRetryCompletes() {
+        UUID kasaid = openKasa(1901);
+        post(kasaid);
+
+        doThrow(new QueryTimeoutException("canceling statement due to lock timeout"))
+                .when(jdbc).execute(startsWith("alter table kasa_hareket detach partition"));
+
+        assertThatThrownBy(() -> kasaService.archive(kasaid))
+                .isInstanceOf(BusinessException.class);
+
+        // partition bağlı kaldı: kasa arşivli görünmemeli, hareket kabul etmeye devam etmeli
+        assertThat(kasaRepository.findById(kasaid).orElseThrow().getArsivdate()).isNull();
+        assertThat(kasaRepository.findHareketPartitionName(kasaid)).isNotNull();
+        assertThat(kasaService.isWritable(kasaid)).isTrue();
+        post(kasaid);
+
+        reset(jdbc);
+        kasaService.archive(kasaid);
+
+        assertThat(kasaRepository.findById(kasaid).orElseThrow().getArsivdate()).isNotNull();
+        assertThat(kasaRepository.findHareketPartitionName(kasaid)).isNull();
+        assertThat(archivedRows(kasaid)).isEqualTo(2);
+        assertThatThrownBy(() -> kasaService.archive(kasaid))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Kasa zaten arşivlenmiş");
+    }
+
+    @Test
+    void failedViewRefreshIsCompletedOnRetry() {
+        UUID kasaid = openKasa(1902);
+        post(kasaid);
+
+        doThrow(new QueryTimeoutException("canceling statement due to statement timeout"))
+                .when(jdbc).execute(eq("select kasa_hareket_tum_yenile()"));
+
+        assertThatThrownBy(() -> kasaService.archive(kasaid))
+                .isInstanceOf(DataAccessException.class);
+
+        // detach tamamlandı ama arşiv tablosu view'da yok: ekstre / borç raporu bu hareketleri görmez
+        assertThat(kasaRepository.findById(kasaid).orElseThrow().getArsivdate()).isNotNull();
+        assertThat(kasaRepository.findHareketPartitionName(kasaid)).isNull();
+        assertThat(kasaRepository.existsArsivTablosuViewDisinda(kasaid)).isTrue();
+
+        reset(jdbc);
+        kasaService.archive(kasaid);
+
+        assertThat(kasaRepository.existsArsivTablosuViewDisinda(kasaid)).isFalse();
+        assertThat(archivedRows(kasaid)).isEqualTo(1);
+        assertThatThrownBy(() -> kasaService.archive(kasaid))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Kasa zaten arşivlenmiş");
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    private UUID openKasa(int year) {
+        KasaRequestDto request = new KasaRequestDto();
+        request.setYears(year);
+        return kasaService.create(request).getId();
+    }
+
+    private void post(UUID kasaid) {
+        KasaHareketRequestDto dto = new KasaHareketRequestDto();
+        dto.setKasaid(kasaid);
+        dto.setDirection(KasaDirection.IN);
+        dto.setAmount(new BigDecimal("100.00"));
+        dto.setDescription("arşiv");
+        hareketService.create(dto);
+    }
+
+    private Integer archivedRows(UUID kasaid) {
+        return jdbc.queryForObject("select count(*) from kasa_hareket_tum where kasaid = ?", Integer.class, kasaid);
+    }
+}
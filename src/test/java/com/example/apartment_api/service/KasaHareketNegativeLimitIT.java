@@ -0,0 +1,159 @@
+package com.example.apartment_api.service;
+
+import com.example.apartment_api.PostgresContainerConfig;
+import com.example.apartment_api.dto.KasaHareketRequestDto;
+import com.example.apartment_api.dto.KasaRequestDto;
+import com.example.apartment_api.enums.KasaDirection;
+import com.example.apartment_api.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// kasa.max-negative eşzamanlı OUT kayıtlarında da aşılmamalı:
+// aynı kasaya çok sayıda thread aynı anda çıkış yazar, limitin izin verdiği kadarı kabul edilir
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "kasa.max-negative=-5000",
+                "spring.jpa.show-sql=false",
+                "kasa.bakiye.reconcile-cron=-",
+                "tahakkuk.uretim.cron=-",
+                "kasa.butunluk.cron=-"
+        })
+@Import(PostgresContainerConfig.class)
+class KasaHareketNegativeLimitIT {
+
+    private static final int THREADS = 16;
+    private static final int POSTINGS_PER_THREAD = 50;
+    private static final BigDecimal OPENING = new BigDecimal("1000.00");
+    private static final BigDecimal OUT_AMOUNT = new BigDecimal("100.00");
+    private static final BigDecimal LIMIT = new BigDecimal("-5000.00");
+
+    @Autowired
+    private KasaHareketService service;
+
+    @Autowired
+    private KasaService kasaService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void concurrentOutPostingsNeverBreachNegativeLimit() throws Exception {
+        UUID kasaid = openKasa(2101);
+        service.create(request(kasaid, KasaDirection.IN, OPENING));
+
+        Result result = hammer(List.of(kasaid));
+
+        // (1000 - (-5000)) / 100 = 60 çıkış sığar, fazlası reddedilmeli
+        int allowed = OPENING.subtract(LIMIT).divide(OUT_AMOUNT).intValueExact();
+        assertThat(result.accepted().get()).isEqualTo(allowed);
+        assertThat(result.rejected().get()).isEqualTo(THREADS * POSTINGS_PER_THREAD - allowed);
+
+        assertThat(summaryBalance(kasaid)).isEqualByComparingTo(LIMIT);
+        assertThat(ledgerBalance(kasaid)).isEqualByComparingTo(LIMIT);
+    }
+
+    @Test
+    void limitIsEnforcedPerKasaWhileKasasPostInParallel() throws Exception {
+        UUID first = openKasa(2102);
+        UUID second = openKasa(2103);
+        service.create(request(first, KasaDirection.IN, OPENING));
+        service.create(request(second, KasaDirection.IN, OPENING));
+
+        Result result = hammer(List.of(first, second));
+
+        int allowedPerKasa = OPENING.subtract(LIMIT).divide(OUT_AMOUNT).intValueExact();
+        assertThat(result.accepted().get()).isEqualTo(2 * allowedPerKasa);
+
+        for (UUID kasaid : List.of(first, second)) {
+            assertThat(summaryBalance(kasaid)).isEqualByComparingTo(LIMIT);
+            assertThat(ledgerBalance(kasaid)).isEqualByComparingTo(LIMIT);
+        }
+    }
+
+    // ============
+    // helpers
+    // ============
+
+    private record Result(AtomicInteger accepted, AtomicInteger rejected) {
+    }
+
+    // thread'ler kasalara sırayla dağıtılır; hepsi aynı anda başlar
+    private Result hammer(List<UUID> kasaids) throws Exception {
+        Result result = new Result(new AtomicInteger(), new AtomicInteger());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                UUID kasaid = kasaids.get(t % kasaids.size());
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < POSTINGS_PER_THREAD; i++) {
+                        try {
+                            service.create(request(kasaid, KasaDirection.OUT, OUT_AMOUNT));
+                            result.accepted().incrementAndGet();
+                        } catch (BusinessException ex) {
+                            result.rejected().incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                // beklenmeyen hata (deadlock, serialization vb.) testi burada düşürür
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return result;
+    }
+
+    private UUID openKasa(int year) {
+        KasaRequestDto request = new KasaRequestDto();
+        request.setYears(year);
+        return kasaService.create(request).getId();
+    }
+
+    private static KasaHareketRequestDto request(UUID kasaid, KasaDirection direction, BigDecimal amount) {
+        KasaHareketRequestDto dto = new KasaHareketRequestDto();
+        dto.setKasaid(kasaid);
+        dto.setDirection(direction);
+        dto.setAmount(amount);
+        dto.setDescription("stress");
+        return dto;
+    }
+
+    private BigDecimal summaryBalance(UUID kasaid) {
+        return jdbc.queryForObject(
+                "select total_in - total_out from kasa_bakiye where kasaid = ?", BigDecimal.class, kasaid);
+    }
+
+    // özet tablodan bağımsız: ham hareketlerden hesaplanan bakiye
+    private BigDecimal ledgerBalance(UUID kasaid) {
+        return jdbc.queryForObject("""
+                select coalesce(sum(case when direction = 'IN' then amount else -amount end), 0)
+                from kasa_hareket
+                where kasaid = ? and delete = false
+                """, BigDecimal.class, kasaid);
+    }
+}